@@ -0,0 +1,110 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.TableResponse;
+import com.example.backend.dto.response.WaitingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화/역직렬화 시간 비교: 바이너리 코덱(CacheValueSerializer) vs JSON(JsonMapper)
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 op당 할당량도 확인 가능)
+ *
+ * 캐시 대상 중 가장 큰 웨이팅 목록(500건)과 테이블 목록(50건)으로 측정
+ * 응답 DTO에는 역직렬화용 생성자가 없으므로 JSON 쪽 읽기는 트리 파싱 비용으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"waitingList", "tableList"})
+    private String dataset;
+
+    private CacheValueSerializer binarySerializer;
+    private JsonMapper jsonMapper;
+    private Object value;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        binarySerializer = new CacheValueSerializer();
+        jsonMapper = JsonMapper.builder().build();
+        value = "tableList".equals(dataset) ? createTables(50) : createWaitings(500);
+        binaryBytes = binarySerializer.serialize(value);
+        jsonBytes = jsonMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public JsonNode jsonDeserialize() {
+        return jsonMapper.readTree(jsonBytes);
+    }
+
+    private static List<WaitingResponse> createWaitings(int size) {
+        LocalDateTime base = LocalDateTime.of(2026, 5, 20, 18, 0, 0, 123_456_000);
+        List<WaitingResponse> waitings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            WaitingStatus status = i % 5 == 0 ? WaitingStatus.CALLED : WaitingStatus.WAITING;
+            waitings.add(WaitingResponse.builder()
+                    .waitingId(10_000L + i)
+                    .waitingNumber((long) i + 1)
+                    .headCount(2 + i % 4)
+                    .status(status)
+                    .rank((long) i)
+                    .estimatedMinutes(i * 10)
+                    .callTime(status == WaitingStatus.CALLED ? base.plusMinutes(i) : null)
+                    .createdAt(base.plusSeconds(i * 7L))
+                    .userId(500L + i)
+                    .userName("학생" + i)
+                    .userNickname(i % 3 == 0 ? null : "nick-" + i)
+                    .userPhoneNumber(String.format("010-%04d-%04d", i, 9999 - i))
+                    .build());
+        }
+        return waitings;
+    }
+
+    private static List<TableResponse> createTables(int size) {
+        List<TableResponse> tables = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TableStatus status = TableStatus.values()[i % TableStatus.values().length];
+            tables.add(TableResponse.builder()
+                    .tableId(100L + i)
+                    .tableNumber(i + 1)
+                    .capacity(i % 2 == 0 ? 4 : 6)
+                    .status(status)
+                    .currentWaitingId(status == TableStatus.OCCUPIED ? 10_000L + i : null)
+                    .build());
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR 스캔 검증(verifyCode) 처리량 비교: 이전 구현(매번 디코딩/Mac 생성/String.format) vs 현재 TotpService
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 op당 할당량도 확인 가능)
+ *
+ * 일치하지 않는 코드로 검증해 두 구현 모두 ±1 스텝 3회를 전부 계산하도록 함 (최악의 경우 = 잘못된 코드 스캔)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class TotpServiceBenchmark {
+
+    private static final long TIME_STEP = 59_000_000L;
+
+    private TotpService totpService;
+    private String secret;
+    private String wrongCode;
+    private String validCode;
+
+    @Setup
+    public void setUp() {
+        totpService = new TotpService();
+        secret = totpService.generateSecret();
+        validCode = totpService.generateCode(secret, TIME_STEP);
+        wrongCode = validCode.equals("000000") ? "000001" : "000000";
+    }
+
+    @Benchmark
+    public boolean legacyVerifyMismatch() {
+        return LegacyTotp.verifyCode(secret, wrongCode, TIME_STEP);
+    }
+
+    @Benchmark
+    public boolean cachedVerifyMismatch() {
+        return totpService.verifyCode(secret, wrongCode, TIME_STEP);
+    }
+
+    @Benchmark
+    public boolean legacyVerifyMatch() {
+        return LegacyTotp.verifyCode(secret, validCode, TIME_STEP);
+    }
+
+    @Benchmark
+    public boolean cachedVerifyMatch() {
+        return totpService.verifyCode(secret, validCode, TIME_STEP);
+    }
+
+    /**
+     * 비교 기준: 변경 전 TotpService의 생성/검증 로직 그대로
+     */
+    static final class LegacyTotp {
+
+        private static final String BASE32_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+        static boolean verifyCode(String secret, String code, long currentTimeStep) {
+            for (long timeStep = currentTimeStep - 1; timeStep <= currentTimeStep + 1; timeStep++) {
+                if (code.equals(generateCode(secret, timeStep))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static String generateCode(String secret, long timeStep) {
+            try {
+                byte[] secretBytes = decode(secret);
+                byte[] timeBytes = ByteBuffer.allocate(8).putLong(timeStep).array();
+
+                Mac mac = Mac.getInstance("HmacSHA1");
+                mac.init(new SecretKeySpec(secretBytes, "HmacSHA1"));
+                byte[] hash = mac.doFinal(timeBytes);
+
+                int offset = hash[hash.length - 1] & 0x0F;
+                int binary = ((hash[offset] & 0x7F) << 24) |
+                        ((hash[offset + 1] & 0xFF) << 16) |
+                        ((hash[offset + 2] & 0xFF) << 8) |
+                        (hash[offset + 3] & 0xFF);
+
+                int otp = binary % (int) Math.pow(10, 6);
+                return String.format("%0" + 6 + "d", otp);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] decode(String encoded) {
+            encoded = encoded.toUpperCase().replaceAll("[^A-Z2-7]", "");
+            int buffer = 0;
+            int bitsLeft = 0;
+            byte[] result = new byte[(encoded.length() * 5) / 8];
+            int resultIndex = 0;
+
+            for (char c : encoded.toCharArray()) {
+                int value = BASE32_CHARS.indexOf(c);
+                if (value < 0) continue;
+
+                buffer = (buffer << 5) | value;
+                bitsLeft += 5;
+
+                if (bitsLeft >= 8) {
+                    result[resultIndex++] = (byte) ((buffer >> (bitsLeft - 8)) & 0xFF);
+                    bitsLeft -= 8;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -1,41 +1,127 @@
 package com.example.backend.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            "dashboardStats", Duration.ofSeconds(5),
+            "tableList", Duration.ofSeconds(3),
+            "waitingList", Duration.ofSeconds(2)
+    );
+
+    @Value("${app.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${app.cache.local.maximum-size:500}")
+    private long localCacheMaximumSize;
+
+    @Value("${app.cache.stale-window:5s}")
+    private Duration staleWindow;
+
+    @Value("${app.cache.lease-timeout:1s}")
+    private Duration leaseTimeout;
+
+    /**
+     * Redis 모드 CacheManager
+     * 로컬 L1(Caffeine)이 켜져 있으면 Redis(L2) 앞에 두고, 무효화는 pub/sub으로 다른 노드에 전파
+     */
     @Bean
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer cacheMessageListenerContainer
+    ) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory);
+        if (!localCacheEnabled) {
+            return redisCacheManager;
+        }
+
+        TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                stringRedisTemplate,
+                CACHE_TTLS,
+                DEFAULT_TTL,
+                localCacheMaximumSize,
+                staleWindow,
+                leaseTimeout
+        );
+        cacheMessageListenerContainer.addMessageListener(
+                twoLevelCacheManager,
+                List.of(
+                        new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+                        new ChannelTopic(TwoLevelCacheManager.LEASE_RELEASED_CHANNEL)
+                )
+        );
+        return twoLevelCacheManager;
+    }
+
+    /**
+     * 단일 노드(simple) 모드 CacheManager
+     * 무효화하면 키의 버전만 바뀌고 이전 버전 키는 남으므로, 무제한인 ConcurrentMap 대신 크기 제한 + 캐시별 TTL로 보관
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "simple", matchIfMissing = true)
+    public CacheManager simpleCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(localCacheMaximumSize)
+                .expireAfterWrite(DEFAULT_TTL));
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(localCacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .build()));
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisMessageListenerContainer cacheMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration defaultConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueSerializer()))
                 .disableCachingNullValues()
-                .entryTtl(Duration.ofSeconds(10));
+                .entryTtl(DEFAULT_TTL);
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put("dashboardStats", defaultConfiguration.entryTtl(Duration.ofSeconds(5)));
-        cacheConfigurations.put("tableList", defaultConfiguration.entryTtl(Duration.ofSeconds(3)));
-        cacheConfigurations.put("waitingList", defaultConfiguration.entryTtl(Duration.ofSeconds(2)));
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheConfigurations.put(cacheName, defaultConfiguration.entryTtl(ttl)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfiguration)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 빈으로 등록하지 않으므로 초기 캐시 설정(TTL)을 직접 로드
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 }
@@ -0,0 +1,56 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.enums.WaitingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 변경 범위에 맞춰 필요한 캐시 버전만 증가
+ * - 테이블 변경: tables + dashboard
+ * - 웨이팅 변경: 영향받은 상태 파티션 + ALL + dashboard
+ * 트랜잭션 안에서는 커밋 이후에 증가시켜, 커밋 전 데이터가 새 버전 키로 캐시되지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheVersionStore cacheVersionStore;
+
+    public void tablesChanged(Long eventId) {
+        bumpAfterCommit(Set.of(
+                CacheKeyHelper.tablesNamespace(eventId),
+                CacheKeyHelper.dashboardNamespace(eventId)
+        ));
+    }
+
+    public void waitingsChanged(Long eventId, WaitingStatus... statuses) {
+        Set<String> namespaces = new LinkedHashSet<>();
+        for (WaitingStatus status : statuses) {
+            if (status != null) {
+                namespaces.add(CacheKeyHelper.waitingsNamespace(eventId, status.name()));
+            }
+        }
+        namespaces.add(CacheKeyHelper.waitingsNamespace(eventId, CacheKeyHelper.ALL_STATUS_TOKEN));
+        namespaces.add(CacheKeyHelper.dashboardNamespace(eventId));
+        bumpAfterCommit(namespaces);
+    }
+
+    private void bumpAfterCommit(Set<String> namespaces) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            namespaces.forEach(cacheVersionStore::bump);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                namespaces.forEach(cacheVersionStore::bump);
+            }
+        });
+    }
+}
@@ -9,24 +9,51 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CacheKeyHelper {
 
+    static final String ALL_STATUS_TOKEN = "ALL";
+
     private final EventRepository eventRepository;
+    private final CacheVersionStore cacheVersionStore;
+
+    // 기본 이벤트는 기동 후 바뀌지 않으므로 키 계산마다 DB를 조회하지 않도록 한 번만 조회
+    private volatile Long defaultEventId;
 
     public String dashboard() {
-        return "event:" + getDefaultEventId() + ":dashboard";
+        return versioned(dashboardNamespace(getDefaultEventId()));
     }
 
     public String tables() {
-        return "event:" + getDefaultEventId() + ":tables";
+        return versioned(tablesNamespace(getDefaultEventId()));
     }
 
     public String waitings(Object status) {
-        String statusToken = status == null ? "ALL" : status.toString();
-        return "event:" + getDefaultEventId() + ":waitings:" + statusToken;
+        String statusToken = status == null ? ALL_STATUS_TOKEN : status.toString();
+        return versioned(waitingsNamespace(getDefaultEventId(), statusToken));
+    }
+
+    static String dashboardNamespace(Long eventId) {
+        return "event:" + eventId + ":dashboard";
+    }
+
+    static String tablesNamespace(Long eventId) {
+        return "event:" + eventId + ":tables";
+    }
+
+    static String waitingsNamespace(Long eventId, String statusToken) {
+        return "event:" + eventId + ":waitings:" + statusToken;
+    }
+
+    private String versioned(String namespace) {
+        return namespace + ":" + cacheVersionStore.token(namespace);
     }
 
     private Long getDefaultEventId() {
-        Event event = eventRepository.findFirstByOrderByIdAsc()
-                .orElseThrow(() -> new IllegalStateException("Default event not found."));
-        return event.getId();
+        Long eventId = defaultEventId;
+        if (eventId == null) {
+            Event event = eventRepository.findFirstByOrderByIdAsc()
+                    .orElseThrow(() -> new IllegalStateException("Default event not found."));
+            eventId = event.getId();
+            defaultEventId = eventId;
+        }
+        return eventId;
     }
 }
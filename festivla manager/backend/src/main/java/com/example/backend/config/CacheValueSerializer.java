@@ -0,0 +1,414 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.DashboardStatsResponse;
+import com.example.backend.dto.response.TableResponse;
+import com.example.backend.dto.response.WaitingResponse;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redis 캐시 값용 바이너리 직렬화
+ * 형식: [스키마 버전 1B][타입 태그 1B][본문]
+ * - 캐시 대상 DTO(웨이팅/테이블 목록, 대시보드 통계)는 클래스 메타데이터 없이 필드 존재 비트마스크 + varint + 길이 접두 UTF-8로 기록
+ * - 그 외 타입은 왕복을 보장할 수 없으므로 직렬화를 거부 (새 캐시를 추가하면 코덱도 함께 추가)
+ * DTO 필드나 enum 순서가 바뀌면 SCHEMA_VERSION을 올린다. 다른 버전의 값은 캐시 미스로 처리된다.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte SCHEMA_VERSION = 2;
+
+    private static final byte TYPE_WAITING_LIST = 1;
+    private static final byte TYPE_TABLE_LIST = 2;
+    private static final byte TYPE_DASHBOARD_STATS = 3;
+    private static final byte TYPE_EMPTY_LIST = 4;
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+    private static final WaitingStatus[] WAITING_STATUSES = WaitingStatus.values();
+    private static final TableStatus[] TABLE_STATUSES = TableStatus.values();
+    private static final ThreadLocal<Writer> WRITERS = ThreadLocal.withInitial(Writer::new);
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_BYTES;
+        }
+
+        Writer writer = WRITERS.get();
+        writer.reset();
+        writer.writeByte(SCHEMA_VERSION);
+
+        if (value instanceof List<?> list && list.isEmpty()) {
+            writer.writeByte(TYPE_EMPTY_LIST);
+        } else if (value instanceof List<?> list && isListOf(list, WaitingResponse.class)) {
+            writer.writeByte(TYPE_WAITING_LIST);
+            writer.writeVarLong(list.size());
+            for (Object element : list) {
+                writeWaiting(writer, (WaitingResponse) element);
+            }
+        } else if (value instanceof List<?> list && isListOf(list, TableResponse.class)) {
+            writer.writeByte(TYPE_TABLE_LIST);
+            writer.writeVarLong(list.size());
+            for (Object element : list) {
+                writeTable(writer, (TableResponse) element);
+            }
+        } else if (value instanceof DashboardStatsResponse stats) {
+            writer.writeByte(TYPE_DASHBOARD_STATS);
+            writeDashboardStats(writer, stats);
+        } else {
+            throw new SerializationException("Unsupported cache value type: " + value.getClass().getName());
+        }
+
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < 2 || bytes[0] != SCHEMA_VERSION) {
+            return null;
+        }
+
+        Reader reader = new Reader(bytes, 2);
+        switch (bytes[1]) {
+            case TYPE_EMPTY_LIST:
+                return new ArrayList<>();
+            case TYPE_WAITING_LIST: {
+                int size = (int) reader.readVarLong();
+                List<WaitingResponse> waitings = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    waitings.add(readWaiting(reader));
+                }
+                return waitings;
+            }
+            case TYPE_TABLE_LIST: {
+                int size = (int) reader.readVarLong();
+                List<TableResponse> tables = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    tables.add(readTable(reader));
+                }
+                return tables;
+            }
+            case TYPE_DASHBOARD_STATS:
+                return readDashboardStats(reader);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isListOf(List<?> list, Class<?> type) {
+        for (Object element : list) {
+            if (!type.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeWaiting(Writer writer, WaitingResponse waiting) {
+        long presence = Writer.presence(
+                waiting.getWaitingId(), waiting.getWaitingNumber(), waiting.getHeadCount(), waiting.getStatus(),
+                waiting.getRank(), waiting.getEstimatedMinutes(), waiting.getCallTime(), waiting.getCreatedAt(),
+                waiting.getUserId(), waiting.getUserName(), waiting.getUserNickname(), waiting.getUserPhoneNumber()
+        );
+        writer.writeVarLong(presence);
+        writer.writeLong(waiting.getWaitingId());
+        writer.writeLong(waiting.getWaitingNumber());
+        writer.writeInt(waiting.getHeadCount());
+        writer.writeEnum(waiting.getStatus());
+        writer.writeLong(waiting.getRank());
+        writer.writeInt(waiting.getEstimatedMinutes());
+        writer.writeDateTime(waiting.getCallTime());
+        writer.writeDateTime(waiting.getCreatedAt());
+        writer.writeLong(waiting.getUserId());
+        writer.writeString(waiting.getUserName());
+        writer.writeString(waiting.getUserNickname());
+        writer.writeString(waiting.getUserPhoneNumber());
+    }
+
+    private static WaitingResponse readWaiting(Reader reader) {
+        reader.beginRecord();
+        return WaitingResponse.builder()
+                .waitingId(reader.readLong())
+                .waitingNumber(reader.readLong())
+                .headCount(reader.readInt())
+                .status(reader.readEnum(WAITING_STATUSES))
+                .rank(reader.readLong())
+                .estimatedMinutes(reader.readInt())
+                .callTime(reader.readDateTime())
+                .createdAt(reader.readDateTime())
+                .userId(reader.readLong())
+                .userName(reader.readString())
+                .userNickname(reader.readString())
+                .userPhoneNumber(reader.readString())
+                .build();
+    }
+
+    private static void writeTable(Writer writer, TableResponse table) {
+        long presence = Writer.presence(
+                table.getTableId(), table.getTableNumber(), table.getCapacity(), table.getStatus(),
+                table.getCurrentWaitingId(), table.getStatusChangedAt()
+        );
+        writer.writeVarLong(presence);
+        writer.writeLong(table.getTableId());
+        writer.writeInt(table.getTableNumber());
+        writer.writeInt(table.getCapacity());
+        writer.writeEnum(table.getStatus());
+        writer.writeLong(table.getCurrentWaitingId());
+        writer.writeDateTime(table.getStatusChangedAt());
+    }
+
+    private static TableResponse readTable(Reader reader) {
+        reader.beginRecord();
+        return TableResponse.builder()
+                .tableId(reader.readLong())
+                .tableNumber(reader.readInt())
+                .capacity(reader.readInt())
+                .status(reader.readEnum(TABLE_STATUSES))
+                .currentWaitingId(reader.readLong())
+                .statusChangedAt(reader.readDateTime())
+                .build();
+    }
+
+    private static void writeDashboardStats(Writer writer, DashboardStatsResponse stats) {
+        long presence = Writer.presence(
+                stats.getTotalWaiting(), stats.getTablesInUse(), stats.getTotalTables(),
+                stats.getCalledUsers(), stats.getCompletedToday()
+        );
+        writer.writeVarLong(presence);
+        writer.writeLong(stats.getTotalWaiting());
+        writer.writeLong(stats.getTablesInUse());
+        writer.writeLong(stats.getTotalTables());
+        writer.writeLong(stats.getCalledUsers());
+        writer.writeLong(stats.getCompletedToday());
+    }
+
+    private static DashboardStatsResponse readDashboardStats(Reader reader) {
+        reader.beginRecord();
+        return DashboardStatsResponse.builder()
+                .totalWaiting(reader.readLong())
+                .tablesInUse(reader.readLong())
+                .totalTables(reader.readLong())
+                .calledUsers(reader.readLong())
+                .completedToday(reader.readLong())
+                .build();
+    }
+
+    /**
+     * 스레드별로 재사용하는 쓰기 버퍼 (null 필드는 비트마스크에만 표시하고 본문에는 쓰지 않음)
+     */
+    private static final class Writer {
+
+        private static final int INITIAL_CAPACITY = 4 * 1024;
+        private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int position;
+
+        static long presence(Object... fields) {
+            long mask = 0L;
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+
+        void reset() {
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+            position = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(Long value) {
+            if (value != null) {
+                writeZigZag(value);
+            }
+        }
+
+        void writeInt(Integer value) {
+            if (value != null) {
+                writeZigZag(value);
+            }
+        }
+
+        void writeEnum(Enum<?> value) {
+            if (value != null) {
+                writeByte(value.ordinal());
+            }
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            if (value != null) {
+                writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+                writeVarLong(value.getNano());
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                return;
+            }
+
+            int length = value.length();
+            int utf8Length = 0;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    utf8Length += 1;
+                } else if (c < 0x800) {
+                    utf8Length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    utf8Length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    utf8Length += 1;
+                } else {
+                    utf8Length += 3;
+                }
+            }
+
+            writeVarLong(utf8Length);
+            ensureCapacity(utf8Length);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // 짝이 없는 surrogate는 String.getBytes(UTF_8)와 동일하게 '?'로 치환
+                    buffer[position++] = (byte) '?';
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+        private long presence;
+        private int fieldIndex;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        void beginRecord() {
+            presence = readVarLong();
+            fieldIndex = 0;
+        }
+
+        long readVarLong() {
+            long result = 0L;
+            int shift = 0;
+            while (true) {
+                byte b = bytes[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+            }
+        }
+
+        Long readLong() {
+            if (!nextFieldPresent()) {
+                return null;
+            }
+            return readZigZag();
+        }
+
+        Integer readInt() {
+            if (!nextFieldPresent()) {
+                return null;
+            }
+            return (int) readZigZag();
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            if (!nextFieldPresent()) {
+                return null;
+            }
+            return values[bytes[position++]];
+        }
+
+        LocalDateTime readDateTime() {
+            if (!nextFieldPresent()) {
+                return null;
+            }
+            long epochSecond = readZigZag();
+            int nano = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        String readString() {
+            if (!nextFieldPresent()) {
+                return null;
+            }
+            int length = (int) readVarLong();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private long readZigZag() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        private boolean nextFieldPresent() {
+            return (presence & (1L << fieldIndex++)) != 0;
+        }
+    }
+}
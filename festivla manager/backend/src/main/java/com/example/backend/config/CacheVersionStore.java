@@ -0,0 +1,157 @@
+package com.example.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 네임스페이스별 버전 카운터
+ * 캐시 키에 버전을 포함시켜 무효화를 O(1) 카운터 증가로 처리
+ * 이전 버전 키는 지우지 않고 캐시 TTL로 만료 (Redis는 entryTtl, simple 모드는 크기 제한 Caffeine - CacheConfig)
+ * Redis 모드에서는 Redis INCR 값을 기준으로 하고, 증가 사실은 pub/sub으로 다른 노드의 로컬 사본에 전파
+ * Redis 장애로 증가하지 못하면 공유 버전은 그대로 두고 노드 전용 접미사로 로컬 키만 바꾸며, 복구되면 다시 INCR 해 다른 노드에도 반영
+ */
+@Slf4j
+@Component
+public class CacheVersionStore implements MessageListener {
+
+    public static final String VERSION_CHANNEL = "cache:version";
+    private static final String VERSION_KEY_PREFIX = "cache:version:";
+    private static final String SEPARATOR = "\t";
+    private static final long RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean distributed;
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    // Redis에 반영하지 못한 증가 횟수 (네임스페이스별)
+    private final ConcurrentMap<String, Long> pendingBumps = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private volatile long nextRetryNanos = System.nanoTime();
+
+    public CacheVersionStore(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${spring.cache.type:simple}") String cacheType
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.distributed = "redis".equalsIgnoreCase(cacheType);
+        if (distributed) {
+            listenerContainerProvider.ifAvailable(container ->
+                    container.addMessageListener(this, new ChannelTopic(VERSION_CHANNEL)));
+        }
+    }
+
+    /**
+     * 캐시 키에 붙일 버전 토큰 (v{버전}, Redis에 반영하지 못한 증가가 있으면 v{버전}-{노드}.{횟수})
+     */
+    public String token(String namespace) {
+        retryPendingBumps();
+        long version = current(namespace);
+        Long pending = pendingBumps.get(namespace);
+        return pending == null ? "v" + version : "v" + version + "-" + nodeId + "." + pending;
+    }
+
+    /**
+     * 현재 버전 조회 (로컬 사본, 최초 1회만 Redis에서 로드)
+     */
+    public long current(String namespace) {
+        AtomicLong version = versions.get(namespace);
+        if (version != null) {
+            return version.get();
+        }
+        return versions.computeIfAbsent(namespace, key -> new AtomicLong(loadVersion(key))).get();
+    }
+
+    /**
+     * 버전 증가 (= 해당 네임스페이스 캐시 무효화)
+     */
+    public void bump(String namespace) {
+        if (!distributed) {
+            versions.computeIfAbsent(namespace, key -> new AtomicLong()).incrementAndGet();
+            return;
+        }
+
+        retryPendingBumps();
+        if (!incrementShared(namespace)) {
+            // 로컬에서 버전을 올리면 나중에 다른 노드가 INCR 한 같은 번호와 겹치므로 공유 버전은 그대로 둠
+            pendingBumps.merge(namespace, 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (parts.length != 2) {
+            return;
+        }
+        try {
+            apply(parts[0], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 버전 메시지: {}", parts[1]);
+        }
+    }
+
+    /**
+     * Redis 복구 후 밀린 증가를 한 번씩 다시 INCR (장애 중에는 RETRY_INTERVAL 마다만 시도)
+     */
+    private void retryPendingBumps() {
+        if (pendingBumps.isEmpty() || System.nanoTime() - nextRetryNanos < 0) {
+            return;
+        }
+        for (var entry : pendingBumps.entrySet()) {
+            if (!incrementShared(entry.getKey())) {
+                return;
+            }
+            // 재시도 중 새로 밀린 증가가 있으면 다음 재시도에서 다시 반영
+            pendingBumps.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean incrementShared(String namespace) {
+        try {
+            Long next = stringRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + namespace);
+            if (next != null) {
+                apply(namespace, next);
+                stringRedisTemplate.convertAndSend(VERSION_CHANNEL, namespace + SEPARATOR + next);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("캐시 버전 증가 실패, Redis 복구 후 다시 증가: namespace={}", namespace, e);
+        }
+        nextRetryNanos = System.nanoTime() + RETRY_INTERVAL_NANOS;
+        return false;
+    }
+
+    private void apply(String namespace, long version) {
+        versions.computeIfAbsent(namespace, key -> new AtomicLong()).accumulateAndGet(version, Math::max);
+    }
+
+    private long loadVersion(String namespace) {
+        if (!distributed) {
+            return 0L;
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + namespace);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("캐시 버전 로드 실패: namespace={}", namespace, e);
+            // 실제 버전을 모르는 동안에도 다른 노드의 v0 키와 겹치지 않게 함
+            pendingBumps.merge(namespace, 1L, Long::sum);
+            nextRetryNanos = System.nanoTime() + RETRY_INTERVAL_NANOS;
+            return 0L;
+        }
+    }
+}
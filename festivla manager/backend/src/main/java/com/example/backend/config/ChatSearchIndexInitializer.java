@@ -0,0 +1,61 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatRoomRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.projection.ChatSearchMessageRow;
+import com.example.backend.service.ChatSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 기본 이벤트의 채팅 메시지로 검색 색인 재구성
+ * (메시지는 ID 키셋 페이지 단위로 읽어 한 번에 전체를 메모리에 올리지 않음)
+ */
+@Slf4j
+@Component
+@Order(4)
+@RequiredArgsConstructor
+public class ChatSearchIndexInitializer implements CommandLineRunner {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    private final EventRepository eventRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSearchIndex chatSearchIndex;
+
+    @Override
+    public void run(String... args) {
+        Event event = eventRepository.findFirstByOrderByIdAsc()
+                .orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        chatRoomRepository.findSearchRowsByEventId(event.getId())
+                .forEach(room -> chatSearchIndex.addRoom(event.getId(), room));
+
+        long lastId = 0L;
+        List<ChatSearchMessageRow> page;
+        do {
+            page = chatMessageRepository.findSearchRowsByEventIdAfter(event.getId(), lastId, Limit.of(PAGE_SIZE));
+            page.forEach(message -> chatSearchIndex.addMessage(event.getId(), message));
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).messageId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        log.info("Chat search index built: {} messages in {} ms.",
+                chatSearchIndex.getMessageCount(event.getId()),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.response.ApiResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 조회 API 응답 바이트 캐시
+ * 버전이 포함된 캐시 키(@cacheKey)별로 ApiResponse의 최종 JSON 바이트(및 gzip 바이트)를 보관하여,
+ * 적중 시 DTO 역직렬화/Jackson 직렬화 없이 바로 응답 본문으로 쓴다.
+ * 데이터가 바뀌면 키의 버전이 올라가므로 별도 무효화는 필요 없고, 이전 버전 항목은 TTL로 정리된다.
+ */
+@Component
+public class ResponseBytesCache {
+
+    private final JsonMapper jsonMapper;
+    private final int gzipMinBytes;
+    private final Cache<String, RenderedResponse> responses;
+
+    public ResponseBytesCache(
+            JsonMapper jsonMapper,
+            @Value("${app.cache.response.ttl:2s}") Duration ttl,
+            @Value("${app.cache.response.maximum-size:200}") long maximumSize,
+            @Value("${app.cache.response.gzip-min-bytes:1024}") int gzipMinBytes
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시된 응답 바이트 반환, 없으면 데이터를 조회해 ApiResponse.success(data)로 렌더링 후 적재
+     * 클라이언트가 gzip을 허용하고 압축본이 있으면 압축 바이트를 그대로 내려준다.
+     */
+    public ResponseEntity<byte[]> getOrRender(String key, String acceptEncoding, Supplier<?> dataSupplier) {
+        RenderedResponse rendered = responses.get(key, k -> render(dataSupplier.get()));
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (rendered.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return builder.body(rendered.json());
+    }
+
+    private RenderedResponse render(Object data) {
+        byte[] json = jsonMapper.writeValueAsBytes(ApiResponse.success(data));
+        byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+        return new RenderedResponse(json, gzip);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private record RenderedResponse(byte[] json, byte[] gzip) {
+    }
+}
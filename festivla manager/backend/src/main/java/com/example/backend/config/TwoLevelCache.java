@@ -0,0 +1,277 @@
+package com.example.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.convert.ConversionService;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * L1(로컬 힙) 조회 후 L2(Redis)로 폴백하는 캐시
+ * L2 적중 값은 L1에 적재하여 이후 조회는 네트워크/역직렬화 없이 처리
+ *
+ * 캐시 스탬피드 방지 (@Cacheable(sync = true) 경로):
+ * - 노드 내: 키별 single-flight, 동시 요청은 하나의 로드 결과를 공유
+ * - 노드 간: Redis lease(SET NX PX)를 잡은 노드만 재계산, 나머지는 lease 해제 알림(pub/sub)까지 대기 후 L2 조회
+ * - stale-while-revalidate: TTL이 지난 L1 값은 stale 구간 동안 남겨 두고, 한 요청만 갱신하는 동안 나머지는 이전 값을 반환
+ *
+ * L1 키와 무효화 메시지의 키는 L2(Redis)와 같은 방식으로 문자열 변환한 값을 사용 (노드 간 같은 키가 같은 문자열이 되도록)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache;
+    private final Cache remoteCache;
+    private final ConversionService keyConversionService;
+    private final TwoLevelCacheManager cacheManager;
+    private final long freshNanos;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> localCache,
+            Cache remoteCache,
+            ConversionService keyConversionService,
+            TwoLevelCacheManager cacheManager,
+            long freshNanos
+    ) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.keyConversionService = keyConversionService;
+        this.cacheManager = cacheManager;
+        this.freshNanos = freshNanos;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        LocalEntry localEntry = localCache.getIfPresent(localKey);
+        if (localEntry != null && localEntry.isFresh(System.nanoTime())) {
+            return new SimpleValueWrapper(localEntry.value());
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            putLocal(localKey, remoteValue.get());
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        LocalEntry localEntry = localCache.getIfPresent(localKey);
+        if (localEntry != null && localEntry.isFresh(System.nanoTime())) {
+            return (T) localEntry.value();
+        }
+        if (localEntry != null) {
+            return (T) revalidate(key, localKey, localEntry, valueLoader);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(localKey, load);
+        if (existing != null) {
+            return (T) await(key, existing, valueLoader);
+        }
+
+        try {
+            Object value = loadThrough(key, localKey, valueLoader, false);
+            load.complete(value);
+            return (T) value;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+    }
+
+    /**
+     * 값을 직접 바꾸는 경우이므로 다른 노드의 L1에 남은 이전 값도 무효화
+     */
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remoteCache.put(key, value);
+        if (value != null) {
+            putLocal(localKey, value);
+        } else {
+            localCache.invalidate(localKey);
+        }
+        cacheManager.publishInvalidation(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remoteCache.evict(key);
+        localCache.invalidate(localKey);
+        cacheManager.publishInvalidation(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishInvalidation(name, null);
+    }
+
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * stale 값 보유 시: 갱신 중인 요청이 없으면 직접 갱신, 있으면 stale 값 즉시 반환
+     */
+    private Object revalidate(Object key, String localKey, LocalEntry staleEntry, Callable<?> valueLoader) {
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(localKey, refresh) != null) {
+            return staleEntry.value();
+        }
+
+        try {
+            Object value = loadThrough(key, localKey, valueLoader, true);
+            refresh.complete(value != null ? value : staleEntry.value());
+            return value != null ? value : staleEntry.value();
+        } catch (Throwable ex) {
+            log.warn("캐시 갱신 실패, stale 값 반환: cache={}, key={}", name, key, ex);
+            refresh.complete(staleEntry.value());
+            return staleEntry.value();
+        } finally {
+            inFlightLoads.remove(localKey, refresh);
+        }
+    }
+
+    /**
+     * L2 확인 → lease 획득 시 원본 로드 후 L2/L1 적재
+     * lease를 다른 노드가 보유 중이면 갱신(stale 보유) 시에는 null, 최초 로드 시에는 lease 해제 알림을 대기
+     * (노드 안에서는 single-flight로 키당 한 스레드만 여기까지 오므로 대기도 키당 하나)
+     */
+    private Object loadThrough(Object key, String localKey, Callable<?> valueLoader, boolean staleAvailable) throws Exception {
+        Object remoteValue = getRemoteValue(key);
+        if (remoteValue != null) {
+            putLocal(localKey, remoteValue);
+            return remoteValue;
+        }
+
+        if (cacheManager.tryAcquireLease(name, localKey)) {
+            try {
+                return loadAndStore(key, localKey, valueLoader);
+            } finally {
+                cacheManager.releaseLease(name, localKey);
+            }
+        }
+
+        if (staleAvailable) {
+            return null;
+        }
+
+        CompletableFuture<Void> leaseReleased = cacheManager.awaitLeaseRelease(name, localKey);
+        try {
+            // 대기 등록 전에 적재가 끝났을 수 있으므로 등록 후 한 번 더 확인
+            remoteValue = getRemoteValue(key);
+            if (remoteValue == null) {
+                leaseReleased.get(cacheManager.getLeaseTimeout().toNanos(), TimeUnit.NANOSECONDS);
+                remoteValue = getRemoteValue(key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("캐시 lease 해제 대기 시간 초과: cache={}, key={}", name, localKey);
+        } finally {
+            cacheManager.stopAwaitingLeaseRelease(name, localKey, leaseReleased);
+        }
+        if (remoteValue != null) {
+            putLocal(localKey, remoteValue);
+            return remoteValue;
+        }
+
+        // lease 보유 노드가 시간 내 적재하지 못하면 직접 로드
+        return loadAndStore(key, localKey, valueLoader);
+    }
+
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader) throws Exception {
+        Object value = valueLoader.call();
+        if (value != null) {
+            remoteCache.put(key, value);
+            putLocal(localKey, value);
+        }
+        return value;
+    }
+
+    private Object await(Object key, CompletableFuture<Object> load, Callable<?> valueLoader) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause() != null ? ex.getCause() : ex);
+        }
+    }
+
+    private Object getRemoteValue(Object key) {
+        ValueWrapper remoteValue = remoteCache.get(key);
+        return remoteValue != null ? remoteValue.get() : null;
+    }
+
+    private void putLocal(String localKey, Object value) {
+        localCache.put(localKey, new LocalEntry(value, System.nanoTime() + freshNanos));
+    }
+
+    /**
+     * RedisCache의 키 변환과 같은 규칙 (변환기가 있으면 변환, 없으면 toString)
+     */
+    private String localKey(Object key) {
+        if (key instanceof String stringKey) {
+            return stringKey;
+        }
+        if (keyConversionService.canConvert(key.getClass(), String.class)) {
+            String converted = keyConversionService.convert(key, String.class);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        return key.toString();
+    }
+
+    record LocalEntry(Object value, long freshUntilNanos) {
+
+        boolean isFresh(long nowNanos) {
+            return nowNanos - freshUntilNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로컬 L1(Caffeine) + Redis L2 2단계 CacheManager
+ * 무효화(put/evict/clear)는 Redis pub/sub 채널로 다른 노드의 L1에 전파
+ * 재계산 lease 해제도 별도 채널로 알려, 같은 키를 기다리는 다른 노드가 폴링 없이 L2를 다시 조회하도록 함
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    public static final String LEASE_RELEASED_CHANNEL = "cache:lease-released";
+    private static final String SEPARATOR = "\t";
+    private static final String LEASE_KEY_PREFIX = "cache:lease:";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Duration> localTtls;
+    private final Duration defaultLocalTtl;
+    private final long localMaximumSize;
+    private final Duration staleWindow;
+    private final Duration leaseTimeout;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Void>> leaseWaiters = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            StringRedisTemplate stringRedisTemplate,
+            Map<String, Duration> localTtls,
+            Duration defaultLocalTtl,
+            long localMaximumSize,
+            Duration staleWindow,
+            Duration leaseTimeout
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localTtls = localTtls;
+        this.defaultLocalTtl = defaultLocalTtl;
+        this.localMaximumSize = localMaximumSize;
+        this.staleWindow = staleWindow;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화/lease 해제 메시지 수신 (형식: nodeId \t cacheName \t key, 무효화 key가 비어 있으면 clear)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (LEASE_RELEASED_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            CompletableFuture<Void> waiter = leaseWaiters.get(waiterKey(parts[1], parts[2]));
+            if (waiter != null) {
+                waiter.complete(null);
+            }
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    void publishInvalidation(String cacheName, String localKey) {
+        String keyToken = localKey == null ? "" : localKey;
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + cacheName + SEPARATOR + keyToken);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 로컬 TTL 만료로 수렴
+            log.warn("캐시 무효화 전파 실패: cache={}, key={}", cacheName, keyToken, e);
+        }
+    }
+
+    /**
+     * 노드 간 재계산 lease 획득 (SET NX PX), Redis 장애 시에는 로컬 single-flight만으로 진행
+     */
+    boolean tryAcquireLease(String cacheName, String key) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(cacheName, key), nodeId, leaseTimeout);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("캐시 lease 획득 실패: cache={}, key={}", cacheName, key, e);
+            return true;
+        }
+    }
+
+    void releaseLease(String cacheName, String key) {
+        try {
+            stringRedisTemplate.delete(leaseKey(cacheName, key));
+            stringRedisTemplate.convertAndSend(LEASE_RELEASED_CHANNEL, nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+        } catch (Exception e) {
+            log.debug("캐시 lease 해제 실패 (TTL로 만료): cache={}, key={}", cacheName, key);
+        }
+    }
+
+    /**
+     * 다른 노드의 lease 해제 알림 대기 등록 (같은 키의 대기자는 하나의 future를 공유)
+     */
+    CompletableFuture<Void> awaitLeaseRelease(String cacheName, String key) {
+        return leaseWaiters.computeIfAbsent(waiterKey(cacheName, key), k -> new CompletableFuture<>());
+    }
+
+    void stopAwaitingLeaseRelease(String cacheName, String key, CompletableFuture<Void> waiter) {
+        leaseWaiters.remove(waiterKey(cacheName, key), waiter);
+    }
+
+    Duration getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    private static String waiterKey(String cacheName, String key) {
+        return cacheName + SEPARATOR + key;
+    }
+
+    private String leaseKey(String cacheName, String key) {
+        return LEASE_KEY_PREFIX + cacheName + ":" + key;
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        Duration freshTtl = localTtls.getOrDefault(name, defaultLocalTtl);
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(freshTtl.plus(staleWindow))
+                .build();
+        ConversionService keyConversionService = remoteCache instanceof RedisCache redisCache
+                ? redisCache.getCacheConfiguration().getConversionService()
+                : DefaultConversionService.getSharedInstance();
+        return new TwoLevelCache(name, localCache, remoteCache, keyConversionService, this, freshTtl.toNanos());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기열(ZSet)이 비어 있으면 DB의 WAITING 웨이팅으로 재구성
+ * (대기열 키/멤버 형식 변경 또는 Redis 재시작 후 순번 복구)
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class WaitingQueueInitializer implements CommandLineRunner {
+
+    private final EventRepository eventRepository;
+    private final WaitingRepository waitingRepository;
+    private final WaitingQueueService waitingQueueService;
+
+    @Override
+    public void run(String... args) {
+        Event event = eventRepository.findFirstByOrderByIdAsc()
+                .orElse(null);
+        if (event == null || waitingQueueService.getQueueSize() > 0) {
+            return;
+        }
+
+        List<Waiting> waitings = waitingRepository.findByEventIdAndStatusOrderByWaitingNumberAsc(
+                event.getId(),
+                WaitingStatus.WAITING
+        );
+        waitings.forEach(waiting -> waitingQueueService.addToQueue(waiting.getId(), waiting.getWaitingNumber()));
+
+        if (!waitings.isEmpty()) {
+            log.info("Waiting queue rebuilt from DB: {} entries.", waitings.size());
+        }
+    }
+}
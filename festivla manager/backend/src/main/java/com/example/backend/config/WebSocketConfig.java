@@ -1,5 +1,7 @@
 package com.example.backend.config;
 
+import com.example.backend.handler.ChatWebSocketHandler;
+import com.example.backend.handler.ScannerWebSocketHandler;
 import com.example.backend.handler.WaitingWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -13,10 +15,16 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final WaitingWebSocketHandler waitingWebSocketHandler;
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ScannerWebSocketHandler scannerWebSocketHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(waitingWebSocketHandler, "/ws/waiting")
                 .setAllowedOriginPatterns("*"); // 모든 출처 허용, SockJS 제거 (표준 WebSocket 사용)
+        registry.addHandler(chatWebSocketHandler, "/ws/chat")
+                .setAllowedOriginPatterns("*");
+        registry.addHandler(scannerWebSocketHandler, "/ws/scanner")
+                .setAllowedOriginPatterns("*");
     }
 }
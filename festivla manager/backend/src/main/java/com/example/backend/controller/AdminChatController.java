@@ -6,6 +6,9 @@ import com.example.backend.dto.request.ChatMessageRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.ChatMessageResponse;
 import com.example.backend.dto.response.ChatRoomResponse;
+import com.example.backend.dto.response.ChatSearchResponse;
+import com.example.backend.dto.response.RateLimitStatsResponse;
+import com.example.backend.service.ChatRateLimiter;
 import com.example.backend.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +26,7 @@ import java.util.List;
 public class AdminChatController {
 
     private final ChatService chatService;
+    private final ChatRateLimiter chatRateLimiter;
 
     @Operation(summary = "채팅방 목록 조회", description = "관리자가 채팅방 목록을 조회합니다")
     @GetMapping("/rooms")
@@ -56,8 +60,39 @@ public class AdminChatController {
     @GetMapping("/rooms/{chatRoomId}/messages")
     public ApiResponse<List<ChatMessageResponse>> getMessages(
             @Parameter(description = "채팅방 ID", required = true)
-            @PathVariable Long chatRoomId) {
-        List<ChatMessageResponse> response = chatService.getMessages(chatRoomId);
+            @PathVariable Long chatRoomId,
+            @Parameter(description = "이 메시지 ID 이전 기록 조회 (선택사항)")
+            @RequestParam(required = false) Long beforeId,
+            @Parameter(description = "이 메시지 ID 이후 새 메시지 조회 (선택사항)")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "최대 조회 개수 (기본 50, 최대 200)")
+            @RequestParam(required = false) Integer limit) {
+        List<ChatMessageResponse> response = chatService.getMessages(
+                chatRoomId, null, SenderRole.ADMIN, beforeId, afterId, limit);
+
+        // 읽음 처리 (받은 메시지 중 마지막 ID까지 워터마크 전진, 새 메시지가 없으면 생략)
+        if (!response.isEmpty()) {
+            chatService.markMessagesAsRead(chatRoomId, SenderRole.ADMIN, response.get(response.size() - 1).getMessageId());
+        }
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "채팅 메시지 검색 (관리자)", description = "메시지 내용과 학생 닉네임으로 채팅 메시지를 검색합니다")
+    @GetMapping("/search")
+    public ApiResponse<ChatSearchResponse> searchMessages(
+            @Parameter(description = "검색어 (공백으로 구분된 단어를 모두 포함, 단어당 2자 이상)", required = true)
+            @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터, 기본 0)")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
+        ChatSearchResponse response = chatService.searchMessages(q, page, size);
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "채팅 전송 제한 현황", description = "학생 메시지 전송 속도 제한 설정과 허용/거절 누적 건수를 조회합니다")
+    @GetMapping("/rate-limit")
+    public ApiResponse<RateLimitStatsResponse> getRateLimitStats() {
+        return ApiResponse.success(chatRateLimiter.getStats());
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.CallPacingResponse;
 import com.example.backend.dto.response.DashboardStatsResponse;
+import com.example.backend.service.CallPacingService;
 import com.example.backend.service.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminDashboardController {
 
     private final DashboardService dashboardService;
+    private final CallPacingService callPacingService;
 
     @Operation(summary = "대시보드 통계 조회", description = "대시보드에 표시할 통계 정보를 조회합니다")
     @GetMapping("/stats")
@@ -24,4 +27,10 @@ public class AdminDashboardController {
         DashboardStatsResponse response = dashboardService.getDashboardStats();
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "호출 페이싱 조회", description = "입장 시간, 노쇼율, 테이블 예상 종료 시각으로 계산한 추천 호출 수를 조회합니다")
+    @GetMapping("/pacing")
+    public ApiResponse<CallPacingResponse> getCallPacing() {
+        return ApiResponse.success(callPacingService.getPlan());
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.response.ApiResponse;
+import com.example.backend.dto.response.EventArchiveResponse;
+import com.example.backend.service.EventArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자 이벤트", description = "관리자용 이벤트 데이터 관리 API")
+@RestController
+@RequestMapping("/api/admin/events")
+@RequiredArgsConstructor
+public class AdminEventController {
+
+    private final EventArchiveService eventArchiveService;
+
+    @Operation(summary = "이벤트 아카이브 시작", description = "종료된 이벤트의 웨이팅/채팅 메시지/테이블 배정 이력을 아카이브 테이블로 옮깁니다 (비동기)")
+    @PostMapping("/{eventId}/archive")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<EventArchiveResponse> archiveEvent(
+            @Parameter(description = "이벤트 ID", required = true)
+            @PathVariable Long eventId) {
+        EventArchiveResponse response = eventArchiveService.requestArchive(eventId);
+        return ApiResponse.success("아카이브 요청 완료", response);
+    }
+
+    @Operation(summary = "이벤트 아카이브 진행 상황", description = "아카이브 작업 상태와 테이블별 이동 건수를 조회합니다")
+    @GetMapping("/{eventId}/archive")
+    public ApiResponse<EventArchiveResponse> getArchiveStatus(
+            @Parameter(description = "이벤트 ID", required = true)
+            @PathVariable Long eventId) {
+        EventArchiveResponse response = eventArchiveService.getArchiveStatus(eventId);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.controller;
+
+import com.example.backend.domain.enums.ExportFormat;
+import com.example.backend.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@Tag(name = "관리자 내보내기", description = "관리자용 운영 데이터 내보내기 API (CSV / NDJSON 스트리밍)")
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private final ExportService exportService;
+
+    @Operation(summary = "웨이팅 내보내기", description = "웨이팅 목록(호출/상태 변경 시각 포함)을 CSV 또는 NDJSON으로 내려받습니다")
+    @GetMapping("/waitings")
+    public ResponseEntity<StreamingResponseBody> exportWaitings(
+            @Parameter(description = "이벤트 ID (기본: 현재 이벤트)")
+            @RequestParam(required = false) Long eventId,
+            @Parameter(description = "영업일 (yyyy-MM-dd, 선택사항)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+            @Parameter(description = "형식 (CSV, NDJSON)")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long resolvedEventId = exportService.resolveEventId(eventId);
+        return stream("waitings", resolvedEventId, businessDate, format, acceptEncoding,
+                out -> exportService.exportWaitings(resolvedEventId, businessDate, format, out));
+    }
+
+    @Operation(summary = "테이블 배정 이력 내보내기", description = "테이블 배정 이력(체류 시간 포함)을 CSV 또는 NDJSON으로 내려받습니다")
+    @GetMapping("/table-assignments")
+    public ResponseEntity<StreamingResponseBody> exportTableAssignments(
+            @Parameter(description = "이벤트 ID (기본: 현재 이벤트)")
+            @RequestParam(required = false) Long eventId,
+            @Parameter(description = "영업일 (yyyy-MM-dd, 선택사항)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+            @Parameter(description = "형식 (CSV, NDJSON)")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Long resolvedEventId = exportService.resolveEventId(eventId);
+        return stream("table-assignments", resolvedEventId, businessDate, format, acceptEncoding,
+                out -> exportService.exportTableAssignments(resolvedEventId, businessDate, format, out));
+    }
+
+    /**
+     * 응답 본문을 스트리밍으로 작성, 클라이언트가 gzip을 허용하면 압축하여 전송
+     */
+    private ResponseEntity<StreamingResponseBody> stream(
+            String name,
+            Long eventId,
+            LocalDate businessDate,
+            ExportFormat format,
+            String acceptEncoding,
+            StreamingResponseBody body
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        String filename = name + "-event" + eventId
+                + (businessDate != null ? "-" + businessDate : "")
+                + "." + format.getExtension();
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return builder.body(body);
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8 * 1024);
+            body.writeTo(gzipOut);
+            gzipOut.finish();
+        });
+    }
+}
@@ -1,13 +1,15 @@
 package com.example.backend.controller;
 
-import com.example.backend.domain.entity.Waiting;
 import com.example.backend.dto.request.QrVerifyRequest;
+import com.example.backend.dto.request.ShortCodeVerifyRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.QrVerifyResponse;
 import com.example.backend.service.QrCodeService;
+import com.example.backend.service.ShortCodeIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -19,31 +21,40 @@ import org.springframework.web.bind.annotation.*;
 public class AdminQrController {
 
     private final QrCodeService qrCodeService;
+    private final ShortCodeIndex shortCodeIndex;
 
-    @Operation(summary = "QR 코드 검증", description = "관리자가 스캔한 QR 코드를 검증합니다")
+    @Operation(summary = "QR 코드 검증", description = "관리자가 스캔한 QR 코드를 검증합니다 (seat=true 이면 인원수에 맞는 빈 테이블까지 자동 배정)")
     @PostMapping("/verify")
     public ApiResponse<QrVerifyResponse> verifyQrCode(
-            @Valid @RequestBody QrVerifyRequest request) {
-        
-        Waiting waiting = qrCodeService.verifyQrCode(request.getQrData());
-        
-        if (waiting == null) {
-            QrVerifyResponse response = QrVerifyResponse.builder()
-                    .isValid(false)
-                    .message("유효하지 않은 QR 코드입니다. 다시 스캔해주세요.")
-                    .build();
-            return ApiResponse.success(response);
-        }
+            @Valid @RequestBody QrVerifyRequest request,
+            @Parameter(description = "좌석 자동 배정 여부")
+            @RequestParam(defaultValue = "false") boolean seat) {
 
-        QrVerifyResponse response = QrVerifyResponse.builder()
-                .waitingId(waiting.getId())
-                .userId(waiting.getUser().getId())
-                .userNickname(waiting.getUser().getNickname())
-                .headCount(waiting.getHeadCount())
-                .isValid(true)
-                .message("유효한 입장권입니다")
-                .build();
+        QrCodeService.QrScanResult result = seat
+                ? qrCodeService.verifyAndSeat(request.getQrData())
+                : qrCodeService.verifyQrCode(request.getQrData());
 
+        QrVerifyResponse response;
+        if (result == null) {
+            response = QrVerifyResponse.invalid("유효하지 않은 QR 코드입니다. 다시 스캔해주세요.");
+        } else if (result.alreadyArrived()) {
+            response = QrVerifyResponse.alreadyArrived(result.arrival());
+        } else {
+            response = seat
+                    ? QrVerifyResponse.seated(result.arrival(), result.tableId(), result.tableNumber())
+                    : QrVerifyResponse.arrived(result.arrival());
+        }
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "입장 코드 검증", description = "QR을 스캔할 수 없을 때 학생 화면의 6자리 코드로 입장 처리합니다 (코드가 겹치면 후보 목록 반환, 틀린 코드는 스캐너별로 입력 제한)")
+    @PostMapping("/verify-code")
+    public ApiResponse<QrVerifyResponse> verifyShortCode(
+            @Valid @RequestBody ShortCodeVerifyRequest request,
+            @Parameter(description = "스캐너 기기 ID (없으면 접속 주소로 구분)")
+            @RequestHeader(value = "X-Scanner-Id", required = false) String scannerId,
+            HttpServletRequest httpRequest) {
+        String scanner = scannerId != null && !scannerId.isBlank() ? scannerId : httpRequest.getRemoteAddr();
+        return ApiResponse.success(shortCodeIndex.verify(scanner, request.getCode(), request.getWaitingId()));
+    }
 }
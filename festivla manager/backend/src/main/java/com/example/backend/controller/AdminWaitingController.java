@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import com.example.backend.config.CacheKeyHelper;
+import com.example.backend.config.ResponseBytesCache;
 import com.example.backend.domain.enums.WaitingStatus;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.WaitingResponse;
@@ -8,10 +10,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "관리자 웨이팅", description = "관리자용 웨이팅 관리 API")
 @RestController
 @RequestMapping("/api/admin/waitings")
@@ -19,14 +21,20 @@ import java.util.List;
 public class AdminWaitingController {
 
     private final WaitingService waitingService;
+    private final CacheKeyHelper cacheKeyHelper;
+    private final ResponseBytesCache responseBytesCache;
 
     @Operation(summary = "웨이팅 목록 조회", description = "관리자가 웨이팅 목록을 조회합니다")
     @GetMapping
-    public ApiResponse<List<WaitingResponse>> getWaitingList(
+    public ResponseEntity<byte[]> getWaitingList(
             @Parameter(description = "웨이팅 상태 (선택사항)")
-            @RequestParam(required = false) WaitingStatus status) {
-        List<WaitingResponse> response = waitingService.getWaitingList(status);
-        return ApiResponse.success(response);
+            @RequestParam(required = false) WaitingStatus status,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseBytesCache.getOrRender(
+                cacheKeyHelper.waitings(status),
+                acceptEncoding,
+                () -> waitingService.getWaitingList(status)
+        );
     }
 
     @Operation(summary = "사용자 호출", description = "관리자가 사용자를 호출합니다")
@@ -6,6 +6,7 @@ import com.example.backend.dto.request.ChatMessageRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.ChatMessageResponse;
 import com.example.backend.dto.response.ChatRoomResponse;
+import com.example.backend.service.ChatRateLimiter;
 import com.example.backend.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +24,7 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatRateLimiter chatRateLimiter;
 
     @Operation(summary = "채팅방 생성", description = "학생이 채팅방을 생성합니다")
     @PostMapping("/rooms")
@@ -48,11 +50,20 @@ public class ChatController {
             @Parameter(description = "채팅방 ID", required = true)
             @PathVariable Long chatRoomId,
             @Parameter(description = "사용자 ID", required = true)
-            @RequestHeader("X-User-Id") Long userId) {
-        // 읽음 처리
-        chatService.markMessagesAsRead(chatRoomId, userId);
-        
-        List<ChatMessageResponse> response = chatService.getMessages(chatRoomId);
+            @RequestHeader("X-User-Id") Long userId,
+            @Parameter(description = "이 메시지 ID 이전 기록 조회 (선택사항)")
+            @RequestParam(required = false) Long beforeId,
+            @Parameter(description = "이 메시지 ID 이후 새 메시지 조회 (선택사항)")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "최대 조회 개수 (기본 50, 최대 200)")
+            @RequestParam(required = false) Integer limit) {
+        List<ChatMessageResponse> response = chatService.getMessages(
+                chatRoomId, userId, SenderRole.STUDENT, beforeId, afterId, limit);
+
+        // 읽음 처리 (받은 메시지 중 마지막 ID까지 워터마크 전진, 새 메시지가 없으면 생략)
+        if (!response.isEmpty()) {
+            chatService.markMessagesAsRead(chatRoomId, SenderRole.STUDENT, response.get(response.size() - 1).getMessageId());
+        }
         return ApiResponse.success(response);
     }
 
@@ -64,6 +75,8 @@ public class ChatController {
             @Parameter(description = "사용자 ID", required = true)
             @RequestHeader("X-User-Id") Long userId,
             @Valid @RequestBody ChatMessageRequest request) {
+        // 전송 한도 초과 시 DB 작업 없이 429
+        chatRateLimiter.acquire(userId);
         ChatMessageResponse response = chatService.sendMessage(chatRoomId, userId, request, SenderRole.STUDENT);
         return ApiResponse.success("메시지가 전송되었습니다", response);
     }
@@ -5,12 +5,21 @@ import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.QrCodeResponse;
 import com.example.backend.dto.response.QrVerifyResponse;
 import com.example.backend.service.QrCodeService;
+import com.example.backend.service.QrImageRenderer;
+import com.example.backend.service.QrTicketService;
+import com.example.backend.service.ShortCodeIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.Duration;
 
 @Tag(name = "QR 코드", description = "QR 코드 생성 및 검증 API")
 @RestController
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class QrCodeController {
 
     private final QrCodeService qrCodeService;
+    private final ShortCodeIndex shortCodeIndex;
 
     @Operation(summary = "QR 코드 생성", description = "학생이 입장용 QR 코드를 생성합니다 (30초마다 갱신)")
     @GetMapping("/generate/{waitingId}")
@@ -30,22 +40,36 @@ public class QrCodeController {
         
         // QR 코드 데이터 및 URL 생성
         String qrData = qrCodeService.generateQrData(waitingId);
-        String qrCodeUrl = qrCodeService.generateQrCodeUrl(waitingId);
-        
+        String qrCodeUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(qrCodeService.generateQrCodeImagePath(waitingId))
+                .toUriString();
+
         // 현재 시간 기준으로 남은 시간 계산 (30초 주기)
-        long currentTimeSeconds = System.currentTimeMillis() / 1000;
-        long timeStep = currentTimeSeconds / 30;
-        long nextTimeStep = timeStep + 1;
-        long nextTimeStepSeconds = nextTimeStep * 30;
-        long timeRemaining = nextTimeStepSeconds - currentTimeSeconds;
+        long timeRemaining = QrTicketService.secondsUntilNextStep();
 
         QrCodeResponse response = QrCodeResponse.builder()
                 .qrCodeUrl(qrCodeUrl)
                 .qrData(qrData) // 실제 운영 시 보안상 제외 가능
+                .shortCode(shortCodeIndex.shortCodeOf(qrData))
                 .timeRemaining(timeRemaining)
                 .waitingId(waitingId)
                 .build();
 
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "QR 코드 이미지", description = "현재 QR 코드를 SVG 이미지로 반환합니다 (30초마다 갱신, 서버에서 렌더링)")
+    @GetMapping("/image/{waitingId}")
+    public ResponseEntity<byte[]> getQrCodeImage(
+            @Parameter(description = "웨이팅 ID", required = true)
+            @PathVariable Long waitingId) {
+
+        QrCodeService.QrCodeImage image = qrCodeService.getQrCodeImage(waitingId);
+
+        // 다음 갱신 시점까지만 클라이언트 캐시 허용
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(QrImageRenderer.CONTENT_TYPE))
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(QrTicketService.secondsUntilNextStep())).cachePrivate())
+                .body(image.svg());
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import com.example.backend.config.CacheKeyHelper;
+import com.example.backend.config.ResponseBytesCache;
 import com.example.backend.dto.request.TableStatusUpdateRequest;
 import com.example.backend.dto.response.ApiResponse;
 import com.example.backend.dto.response.TableResponse;
@@ -9,10 +11,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "테이블", description = "테이블 관리 API (관리자용)")
 @RestController
 @RequestMapping("/api/admin/tables")
@@ -20,12 +22,14 @@ import java.util.List;
 public class TableController {
 
     private final TableService tableService;
+    private final CacheKeyHelper cacheKeyHelper;
+    private final ResponseBytesCache responseBytesCache;
 
     @Operation(summary = "전체 테이블 조회", description = "모든 테이블의 상태를 조회합니다")
     @GetMapping
-    public ApiResponse<List<TableResponse>> getAllTables() {
-        List<TableResponse> response = tableService.getAllTables();
-        return ApiResponse.success(response);
+    public ResponseEntity<byte[]> getAllTables(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseBytesCache.getOrRender(cacheKeyHelper.tables(), acceptEncoding, tableService::getAllTables);
     }
 
     @Operation(summary = "테이블 상태 변경", description = "테이블의 상태를 변경합니다")
@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "chat_messages", indexes = {
     @Index(name = "idx_chat_messages_event_room", columnList = "event_id,chat_room_id"),
+    @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id,id"),
     @Index(name = "idx_chat_messages_is_read", columnList = "is_read")
 })
 @Getter
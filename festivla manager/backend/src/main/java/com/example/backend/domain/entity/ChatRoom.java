@@ -2,6 +2,7 @@ package com.example.backend.domain.entity;
 
 import com.example.backend.domain.common.BaseTimeEntity;
 import com.example.backend.domain.enums.ChatRoomStatus;
+import com.example.backend.domain.enums.SenderRole;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -19,10 +20,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "chat_rooms", indexes = {
     @Index(name = "idx_chat_rooms_event_user", columnList = "event_id,user_id"),
-    @Index(name = "idx_chat_rooms_event_status", columnList = "event_id,status")
+    @Index(name = "idx_chat_rooms_event_status", columnList = "event_id,status"),
+    @Index(name = "idx_chat_rooms_event_updated", columnList = "event_id,updated_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,12 +51,50 @@ public class ChatRoom extends BaseTimeEntity {
     @Column(name = "last_message", columnDefinition = "TEXT")
     private String lastMessage;
 
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    // 역할별 읽음 워터마크 (마지막으로 읽은 메시지 ID)
+    @Column(name = "admin_last_read_message_id", nullable = false)
+    private Long adminLastReadMessageId;
+
+    @Column(name = "student_last_read_message_id", nullable = false)
+    private Long studentLastReadMessageId;
+
+    // 역할별 안 읽은 메시지 수 (상대방 메시지 중 워터마크 이후 개수, 목록 조회 시 메시지 테이블을 읽지 않기 위함)
+    @Column(name = "admin_unread_count", nullable = false)
+    private Long adminUnreadCount;
+
+    @Column(name = "student_unread_count", nullable = false)
+    private Long studentUnreadCount;
+
     @Builder
-    public ChatRoom(Event event, User user, ChatRoomStatus status, String lastMessage) {
+    public ChatRoom(
+            Event event,
+            User user,
+            ChatRoomStatus status,
+            String lastMessage,
+            LocalDateTime lastMessageAt,
+            Long adminUnreadCount,
+            Long studentUnreadCount
+    ) {
         this.event = event;
         this.user = user;
         this.status = status;
         this.lastMessage = lastMessage;
+        this.lastMessageAt = lastMessageAt;
+        this.adminLastReadMessageId = 0L;
+        this.studentLastReadMessageId = 0L;
+        this.adminUnreadCount = adminUnreadCount != null ? adminUnreadCount : 0L;
+        this.studentUnreadCount = studentUnreadCount != null ? studentUnreadCount : 0L;
+    }
+
+    public Long getUnreadCountFor(SenderRole reader) {
+        return reader == SenderRole.ADMIN ? adminUnreadCount : studentUnreadCount;
+    }
+
+    public Long getLastReadMessageIdOf(SenderRole reader) {
+        return reader == SenderRole.ADMIN ? adminLastReadMessageId : studentLastReadMessageId;
     }
 
     public void updateStatus(ChatRoomStatus status) {
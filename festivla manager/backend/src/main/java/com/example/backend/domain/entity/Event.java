@@ -43,4 +43,11 @@ public class Event extends BaseTimeEntity {
         this.endDate = endDate;
         this.status = status;
     }
+
+    /**
+     * 종료 여부 (ACTIVE가 아니거나 종료일이 지난 이벤트)
+     */
+    public boolean isClosed(LocalDate today) {
+        return !"ACTIVE".equals(status) || endDate.isBefore(today);
+    }
 }
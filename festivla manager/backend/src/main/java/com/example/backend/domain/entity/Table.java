@@ -20,6 +20,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @jakarta.persistence.Table(
         name = "tables",
@@ -59,6 +61,10 @@ public class Table extends BaseTimeEntity {
     @JoinColumn(name = "current_waiting_id")
     private Waiting currentWaiting;
 
+    // 현재 상태가 시작된 시각 (사용 중이면 배정 시작 시각과 같음)
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
     @Builder
     public Table(Event event, Integer tableNumber, Integer capacity, TableStatus status, Waiting currentWaiting) {
         this.event = event;
@@ -66,20 +72,22 @@ public class Table extends BaseTimeEntity {
         this.capacity = capacity;
         this.status = status;
         this.currentWaiting = currentWaiting;
+        this.statusChangedAt = LocalDateTime.now();
     }
 
     public void updateStatus(TableStatus status) {
-        this.status = status;
+        changeStatus(status, LocalDateTime.now());
     }
 
-    public void assignWaiting(Waiting waiting) {
+    public void assignWaiting(Waiting waiting, LocalDateTime startedAt) {
         this.currentWaiting = waiting;
         this.status = TableStatus.OCCUPIED;
+        this.statusChangedAt = startedAt;
     }
 
     public void clearWaiting() {
         this.currentWaiting = null;
-        this.status = TableStatus.EMPTY;
+        changeStatus(TableStatus.EMPTY, LocalDateTime.now());
     }
 
     public void releaseWaiting() {
@@ -87,6 +95,13 @@ public class Table extends BaseTimeEntity {
     }
 
     public void startCleaning() {
-        this.status = TableStatus.CLEANING;
+        changeStatus(TableStatus.CLEANING, LocalDateTime.now());
+    }
+
+    private void changeStatus(TableStatus status, LocalDateTime changedAt) {
+        if (this.status != status) {
+            this.statusChangedAt = changedAt;
+        }
+        this.status = status;
     }
 }
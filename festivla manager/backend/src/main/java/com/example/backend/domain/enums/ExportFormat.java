@@ -0,0 +1,14 @@
+package com.example.backend.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),                       // 헤더 1행 + 데이터 행
+    NDJSON("application/x-ndjson", "ndjson");     // 한 줄에 JSON 객체 하나
+
+    private final String contentType;
+    private final String extension;
+}
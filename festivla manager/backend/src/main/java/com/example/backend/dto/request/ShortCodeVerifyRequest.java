@@ -0,0 +1,17 @@
+package com.example.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ShortCodeVerifyRequest {
+
+    @NotBlank(message = "입장 코드는 필수입니다")
+    @Pattern(regexp = "^\\d{6}$", message = "입장 코드는 6자리 숫자입니다")
+    private String code;
+
+    private Long waitingId; // 같은 코드가 여러 웨이팅에 해당할 때 선택한 웨이팅
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CallPacingResponse {
+    private String mode;                // off / recommend / auto
+    private Integer recommendedCalls;   // 지금 추가로 호출할 팀 수
+    private Integer outstandingCalls;   // 호출 후 아직 오지 않은 팀 수
+    private Long queueSize;             // 대기 팀 수
+    private Integer totalTables;        // 전체 테이블 수
+    private Integer occupiedTables;     // 사용 중인 테이블 수
+    private Integer expectedFreeTables; // 호출한 팀이 도착할 때까지 비게 될 테이블 수
+    private Double targetOccupancy;     // 목표 점유율
+    private Long avgArrivalSeconds;     // 평균 호출→입장 시간(초)
+    private Double noShowRate;          // 노쇼율
+    private Long avgOccupancyMinutes;   // 평균 테이블 사용 시간(분)
+    private Long avgCleaningMinutes;    // 평균 청소 시간(분)
+    private Integer lastAutoCalls;      // 직전 주기에 자동 호출한 팀 수
+    private LocalDateTime computedAt;   // 계산 시각
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatSearchResponse {
+
+    private String query;
+    private Long totalCount;
+    private Integer page;
+    private Integer size;
+    private List<ChatSearchResultResponse> results;
+}
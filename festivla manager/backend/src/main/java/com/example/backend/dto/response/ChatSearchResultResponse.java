@@ -0,0 +1,23 @@
+package com.example.backend.dto.response;
+
+import com.example.backend.domain.enums.MessageType;
+import com.example.backend.domain.enums.SenderRole;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ChatSearchResultResponse {
+
+    private Long messageId;
+    private Long chatRoomId;
+    private Long userId;
+    private String userNickname;
+    private SenderRole senderRole;
+    private MessageType type;
+    private String message;
+    private LocalDateTime createdAt;
+    private Integer score;
+}
@@ -0,0 +1,29 @@
+package com.example.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class EventArchiveResponse {
+
+    private Long eventId;
+    private String status;
+    private String currentTable;
+    private List<TableProgress> tables;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    @Getter
+    @Builder
+    public static class TableProgress {
+        private String table;
+        private Long totalRows;
+        private Long archivedRows;
+    }
+}
@@ -9,6 +9,7 @@ public class QrCodeResponse {
 
     private String qrCodeUrl; // QR 코드 이미지 URL
     private String qrData; // QR 코드 데이터 (디버깅용, 실제로는 보안상 제외 가능)
+    private String shortCode; // 스캔이 안 될 때 직접 입력하는 6자리 코드
     private Long timeRemaining; // 남은 시간 (초)
     private Long waitingId;
 }
@@ -1,8 +1,11 @@
 package com.example.backend.dto.response;
 
+import com.example.backend.repository.projection.QrArrivalRow;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class QrVerifyResponse {
@@ -13,4 +16,61 @@ public class QrVerifyResponse {
     private Integer headCount;
     private Boolean isValid;
     private String message;
+    private Long tableId; // 좌석 자동 배정 모드에서 배정된 테이블
+    private Integer tableNumber;
+    private Boolean alreadyArrived; // 다른 코드로 이미 입장 처리된 웨이팅 (isValid=false)
+    private List<ShortCodeCandidateResponse> candidates; // 단축 코드가 여러 웨이팅에 해당할 때 선택 목록
+
+    public static QrVerifyResponse arrived(QrArrivalRow arrival) {
+        return QrVerifyResponse.builder()
+                .waitingId(arrival.waitingId())
+                .userId(arrival.userId())
+                .userNickname(arrival.userNickname())
+                .headCount(arrival.headCount())
+                .isValid(true)
+                .message("유효한 입장권입니다")
+                .build();
+    }
+
+    public static QrVerifyResponse seated(QrArrivalRow arrival, Long tableId, Integer tableNumber) {
+        return QrVerifyResponse.builder()
+                .waitingId(arrival.waitingId())
+                .userId(arrival.userId())
+                .userNickname(arrival.userNickname())
+                .headCount(arrival.headCount())
+                .isValid(true)
+                .tableId(tableId)
+                .tableNumber(tableNumber)
+                .message(tableId != null
+                        ? "T-" + tableNumber + " 테이블로 안내해주세요"
+                        : "유효한 입장권입니다 (배정 가능한 빈 테이블이 없습니다)")
+                .build();
+    }
+
+    public static QrVerifyResponse alreadyArrived(QrArrivalRow arrival) {
+        return QrVerifyResponse.builder()
+                .waitingId(arrival.waitingId())
+                .userId(arrival.userId())
+                .userNickname(arrival.userNickname())
+                .headCount(arrival.headCount())
+                .isValid(false)
+                .alreadyArrived(true)
+                .message("이미 입장 처리된 웨이팅입니다.")
+                .build();
+    }
+
+    public static QrVerifyResponse ambiguous(List<ShortCodeCandidateResponse> candidates) {
+        return QrVerifyResponse.builder()
+                .isValid(false)
+                .candidates(candidates)
+                .message("같은 코드의 웨이팅이 여러 개입니다. 입장할 웨이팅을 선택해주세요.")
+                .build();
+    }
+
+    public static QrVerifyResponse invalid(String message) {
+        return QrVerifyResponse.builder()
+                .isValid(false)
+                .message(message)
+                .build();
+    }
 }
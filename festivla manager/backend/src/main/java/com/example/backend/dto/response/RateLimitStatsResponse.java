@@ -0,0 +1,17 @@
+package com.example.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RateLimitStatsResponse {
+
+    private String mode;
+    private Integer capacity;
+    private Double refillPerSecond;
+    private Long allowedCount;
+    private Long rejectedCount;
+    private Long redisFallbackCount;
+    private Long trackedUserCount;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShortCodeCandidateResponse {
+
+    private Long waitingId;
+    private Long waitingNumber;
+    private String userNickname;
+    private Integer headCount;
+}
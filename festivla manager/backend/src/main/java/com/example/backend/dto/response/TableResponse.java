@@ -4,6 +4,8 @@ import com.example.backend.domain.enums.TableStatus;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class TableResponse {
@@ -13,4 +15,5 @@ public class TableResponse {
     private Integer capacity;
     private TableStatus status;
     private Long currentWaitingId;
+    private LocalDateTime statusChangedAt; // 현재 상태 시작 시각 (경과 시간 = 현재 - statusChangedAt, 사용 중이면 배정 시작 시각)
 }
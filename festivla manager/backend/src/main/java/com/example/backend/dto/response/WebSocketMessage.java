@@ -1,5 +1,6 @@
 package com.example.backend.dto.response;
 
+import com.example.backend.domain.enums.SenderRole;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,7 +8,7 @@ import lombok.Getter;
 @Builder
 public class WebSocketMessage {
 
-    private String type; // WAITING_UPDATE, CALLED, RANK_UPDATE 등
+    private String type; // WAITING_UPDATE, CALLED, RANK_UPDATE, CHAT_MESSAGE, CHAT_TYPING, CHAT_READ, SCAN_RESULT, QR_ARRIVED, NO_SHOW, TABLE_TIME_UP 등
     private Object data;
     private Long timestamp;
 
@@ -35,6 +36,62 @@ public class WebSocketMessage {
                 .build();
     }
 
+    public static WebSocketMessage chatMessage(ChatMessageResponse message) {
+        return WebSocketMessage.builder()
+                .type("CHAT_MESSAGE")
+                .data(message)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage chatTyping(Long chatRoomId, SenderRole senderRole) {
+        return WebSocketMessage.builder()
+                .type("CHAT_TYPING")
+                .data(new ChatTypingData(chatRoomId, senderRole))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage chatRead(Long chatRoomId, SenderRole reader, Long lastReadMessageId) {
+        return WebSocketMessage.builder()
+                .type("CHAT_READ")
+                .data(new ChatReadData(chatRoomId, reader, lastReadMessageId))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage scanResult(String requestId, boolean offline, QrVerifyResponse result) {
+        return WebSocketMessage.builder()
+                .type("SCAN_RESULT")
+                .data(new ScanResultData(requestId, offline, result))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage qrArrived(QrVerifyResponse arrival) {
+        return WebSocketMessage.builder()
+                .type("QR_ARRIVED")
+                .data(arrival)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage noShow(Long waitingId, boolean requeued) {
+        return WebSocketMessage.builder()
+                .type("NO_SHOW")
+                .data(new NoShowData(waitingId, requeued))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public static WebSocketMessage tableTimeUp(Long tableId, Long waitingId) {
+        return WebSocketMessage.builder()
+                .type("TABLE_TIME_UP")
+                .data(new TableTimeUpData(tableId, waitingId))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
     // 내부 데이터 클래스
     @Getter
     @lombok.AllArgsConstructor
@@ -56,4 +113,41 @@ public class WebSocketMessage {
         private Long rank;
         private Integer estimatedMinutes;
     }
+
+    @Getter
+    @lombok.AllArgsConstructor
+    public static class ChatTypingData {
+        private Long chatRoomId;
+        private SenderRole senderRole;
+    }
+
+    @Getter
+    @lombok.AllArgsConstructor
+    public static class ChatReadData {
+        private Long chatRoomId;
+        private SenderRole reader;
+        private Long lastReadMessageId;
+    }
+
+    @Getter
+    @lombok.AllArgsConstructor
+    public static class ScanResultData {
+        private String requestId;
+        private boolean offline;
+        private QrVerifyResponse result;
+    }
+
+    @Getter
+    @lombok.AllArgsConstructor
+    public static class NoShowData {
+        private Long waitingId;
+        private boolean requeued;
+    }
+
+    @Getter
+    @lombok.AllArgsConstructor
+    public static class TableTimeUpData {
+        private Long tableId;
+        private Long waitingId;
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.response.ChatMessageResponse;
+
+/**
+ * 채팅 메시지 저장 완료 이벤트 (커밋 후 WebSocket 전달, 검색 색인 반영)
+ * @param eventId 이벤트 ID
+ * @param studentUserId 채팅방 학생 사용자 ID
+ * @param message 저장된 메시지
+ */
+public record ChatMessageSentEvent(Long eventId, Long studentUserId, ChatMessageResponse message) {
+}
@@ -0,0 +1,13 @@
+package com.example.backend.event;
+
+import com.example.backend.domain.enums.SenderRole;
+
+/**
+ * 읽음 워터마크 전진 이벤트 (커밋 후 상대방에게 읽음 확인 전달)
+ * @param chatRoomId 채팅방 ID
+ * @param studentUserId 채팅방 학생 사용자 ID
+ * @param reader 읽은 쪽 역할
+ * @param lastReadMessageId 마지막으로 읽은 메시지 ID
+ */
+public record ChatReadEvent(Long chatRoomId, Long studentUserId, SenderRole reader, Long lastReadMessageId) {
+}
@@ -0,0 +1,10 @@
+package com.example.backend.event;
+
+import com.example.backend.repository.projection.QrArrivalRow;
+
+/**
+ * QR 스캔으로 입장 완료 처리된 이벤트 (커밋 후 스캐너/관리자 화면에 전달)
+ * @param arrival 입장 처리된 웨이팅 정보
+ */
+public record QrArrivedEvent(QrArrivalRow arrival) {
+}
@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import com.example.backend.domain.enums.TableStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 상태 변경 이벤트 (커밋 후 호출 페이싱의 테이블 현황에 반영)
+ * @param tableId 테이블 ID
+ * @param status 바뀐 상태
+ * @param changedAt 상태 시작 시각
+ */
+public record TableStatusChangedEvent(Long tableId, TableStatus status, LocalDateTime changedAt) {
+}
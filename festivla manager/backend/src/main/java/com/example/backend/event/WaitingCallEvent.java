@@ -0,0 +1,19 @@
+package com.example.backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 웨이팅 호출과 그 결과 (커밋 후 호출 페이싱 통계에 반영)
+ * @param waitingId 웨이팅 ID
+ * @param callTime 호출 시각
+ * @param outcome 호출 / 입장 / 노쇼 만료 / 호출 후 취소
+ */
+public record WaitingCallEvent(Long waitingId, LocalDateTime callTime, Outcome outcome) {
+
+    public enum Outcome {
+        CALLED,
+        ARRIVED,
+        NO_SHOW,
+        CANCELED
+    }
+}
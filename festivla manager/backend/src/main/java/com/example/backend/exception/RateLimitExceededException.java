@@ -0,0 +1,17 @@
+package com.example.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 (429 Too Many Requests)
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
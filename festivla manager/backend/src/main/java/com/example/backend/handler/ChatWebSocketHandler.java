@@ -0,0 +1,245 @@
+package com.example.backend.handler;
+
+import com.example.backend.domain.enums.SenderRole;
+import com.example.backend.dto.response.WebSocketMessage;
+import com.example.backend.event.ChatMessageSentEvent;
+import com.example.backend.event.ChatReadEvent;
+import com.example.backend.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 WebSocket 핸들러 (/ws/chat)
+ * 학생은 ?userId=, 관리자는 ?role=ADMIN 으로 접속
+ *
+ * 서버 → 클라이언트: CHAT_MESSAGE(새 메시지), CHAT_TYPING(입력 중), CHAT_READ(읽음 확인)
+ * 클라이언트 → 서버: {"type":"TYPING","chatRoomId":1}, {"type":"READ","chatRoomId":1,"lastReadMessageId":10}
+ * 메시지 전송 자체는 기존 REST API를 사용하고, 저장이 커밋된 뒤 참여자에게 푸시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String ROLE_ATTRIBUTE = "chatRole";
+    private static final String USER_ID_ATTRIBUTE = "chatUserId";
+    private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final ChatService chatService;
+    private final JsonMapper jsonMapper;
+
+    // 학생 userId -> 세션들 (여러 탭 허용), 관리자 세션들
+    private final Map<Long, Set<WebSocketSession>> studentSessions = new ConcurrentHashMap<>();
+    private final Set<WebSocketSession> adminSessions = ConcurrentHashMap.newKeySet();
+    // 원본 세션 ID -> 동시 전송 가능하도록 감싼 세션
+    private final Map<String, WebSocketSession> decoratedSessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Map<String, String> params = getQueryParams(session);
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_SIZE_LIMIT);
+
+        if (SenderRole.ADMIN.name().equals(params.get("role"))) {
+            session.getAttributes().put(ROLE_ATTRIBUTE, SenderRole.ADMIN);
+            decoratedSessions.put(session.getId(), decorated);
+            adminSessions.add(decorated);
+            log.info("채팅 WebSocket 연결됨: role=ADMIN, sessionId={}", session.getId());
+            return;
+        }
+
+        Long userId = parseLong(params.get("userId"));
+        if (userId == null) {
+            log.warn("userId를 찾을 수 없어 채팅 연결을 종료합니다: sessionId={}", session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        session.getAttributes().put(ROLE_ATTRIBUTE, SenderRole.STUDENT);
+        session.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+        decoratedSessions.put(session.getId(), decorated);
+        studentSessions.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(decorated);
+        log.info("채팅 WebSocket 연결됨: userId={}, sessionId={}", userId, session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        removeSession(session);
+        log.info("채팅 WebSocket 연결 종료: sessionId={}, status={}", session.getId(), status);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.error("채팅 WebSocket 전송 오류: sessionId={}", session.getId(), exception);
+        removeSession(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        SenderRole role = (SenderRole) session.getAttributes().get(ROLE_ATTRIBUTE);
+        if (role == null) {
+            return;
+        }
+
+        JsonNode payload;
+        try {
+            payload = jsonMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            log.debug("채팅 이벤트 파싱 실패: sessionId={}", session.getId());
+            return;
+        }
+
+        String type = payload.path("type").asString("");
+        Long chatRoomId = payload.path("chatRoomId").isNumber() ? payload.path("chatRoomId").asLong() : null;
+        if (chatRoomId == null) {
+            return;
+        }
+
+        try {
+            Long roomUserId = chatService.getChatRoomUserId(chatRoomId);
+            Long userId = (Long) session.getAttributes().get(USER_ID_ATTRIBUTE);
+            if (role == SenderRole.STUDENT && !roomUserId.equals(userId)) {
+                log.debug("본인 채팅방이 아닌 이벤트 무시: userId={}, chatRoomId={}", userId, chatRoomId);
+                return;
+            }
+
+            switch (type) {
+                case "TYPING" -> {
+                    WebSocketMessage typing = WebSocketMessage.chatTyping(chatRoomId, role);
+                    if (role == SenderRole.ADMIN) {
+                        sendToStudent(roomUserId, typing);
+                    } else {
+                        sendToAdmins(typing);
+                    }
+                }
+                case "READ" -> {
+                    if (payload.path("lastReadMessageId").isNumber()) {
+                        chatService.markMessagesAsRead(chatRoomId, role, payload.path("lastReadMessageId").asLong());
+                    }
+                }
+                default -> log.debug("알 수 없는 채팅 이벤트: type={}", type);
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("채팅 이벤트 처리 실패: chatRoomId={}, reason={}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 메시지 저장 커밋 후 채팅방 학생과 관리자에게 푸시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        WebSocketMessage message = WebSocketMessage.chatMessage(event.message());
+        sendToStudent(event.studentUserId(), message);
+        sendToAdmins(message);
+    }
+
+    /**
+     * 읽음 워터마크 커밋 후 상대방에게 읽음 확인 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRead(ChatReadEvent event) {
+        WebSocketMessage message = WebSocketMessage.chatRead(
+                event.chatRoomId(), event.reader(), event.lastReadMessageId());
+        if (event.reader() == SenderRole.ADMIN) {
+            sendToStudent(event.studentUserId(), message);
+        } else {
+            sendToAdmins(message);
+        }
+    }
+
+    /**
+     * 연결된 채팅 세션 수 조회
+     */
+    public int getConnectedSessionCount() {
+        return decoratedSessions.size();
+    }
+
+    private void sendToStudent(Long userId, WebSocketMessage message) {
+        if (userId == null) {
+            return;
+        }
+        Set<WebSocketSession> sessions = studentSessions.get(userId);
+        if (sessions != null) {
+            send(sessions, message);
+        }
+    }
+
+    private void sendToAdmins(WebSocketMessage message) {
+        send(adminSessions, message);
+    }
+
+    private void send(Collection<WebSocketSession> sessions, WebSocketMessage message) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        TextMessage textMessage = new TextMessage(jsonMapper.writeValueAsString(message));
+        for (WebSocketSession session : sessions) {
+            if (!session.isOpen()) {
+                continue;
+            }
+            try {
+                session.sendMessage(textMessage);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("채팅 메시지 전송 실패: sessionId={}, type={}", session.getId(), message.getType(), e);
+            }
+        }
+    }
+
+    private void removeSession(WebSocketSession session) {
+        WebSocketSession decorated = decoratedSessions.remove(session.getId());
+        if (decorated == null) {
+            return;
+        }
+
+        adminSessions.remove(decorated);
+        Long userId = (Long) session.getAttributes().get(USER_ID_ATTRIBUTE);
+        if (userId != null) {
+            studentSessions.computeIfPresent(userId, (id, sessions) -> {
+                sessions.remove(decorated);
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+    }
+
+    private Map<String, String> getQueryParams(WebSocketSession session) {
+        Map<String, String> params = new HashMap<>();
+        String query = session.getUri() != null ? session.getUri().getQuery() : null;
+        if (query == null) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            String[] keyValue = param.split("=", 2);
+            if (keyValue.length == 2) {
+                params.put(keyValue[0], keyValue[1]);
+            }
+        }
+        return params;
+    }
+
+    private Long parseLong(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.backend.handler;
+
+import com.example.backend.dto.response.QrVerifyResponse;
+import com.example.backend.dto.response.WebSocketMessage;
+import com.example.backend.event.QrArrivedEvent;
+import com.example.backend.service.QrCodeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장 스캐너 WebSocket 핸들러 (/ws/scanner)
+ * 스캐너 기기는 ?deviceId=, 입장 현황만 보는 관리자 화면은 ?role=MONITOR 로 접속
+ *
+ * 클라이언트 → 서버:
+ * - {"type":"SCAN","requestId":"r1","qrData":"...","seat":true} (seat: 좌석 자동 배정, 생략 시 입장 처리만)
+ * - {"type":"SCAN_BATCH","scans":[{"requestId":"r2","qrData":"...","scannedAt":1700000000000}]} (오프라인 중 모아둔 스캔)
+ * 서버 → 클라이언트: SCAN_RESULT(requestId별 검증 결과), QR_ARRIVED(어느 기기에서든 입장 처리되면 전체 전달)
+ *
+ * 스캔은 작업 스레드에서 병렬로 처리하고 끝나는 대로 결과를 보내므로, 기기는 응답을 기다리지 않고 계속 보낼 수 있다.
+ * 작업 큐가 가득 차면 스캔을 버리지 않고 해당 requestId로 실패 결과를 바로 보낸다.
+ *
+ * 오프라인 스캔의 scannedAt은 기기가 보낸 값이므로, 서버가 본 연결 끊김 구간 안의 시각만 인정한다.
+ * (기기의 이전 세션에서 마지막으로 받은 메시지 시각 - clock-skew ~ 이번 연결 시각 + clock-skew, 최대 offline-max-age)
+ */
+@Slf4j
+@Component
+public class ScannerWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String DEVICE_ID_ATTRIBUTE = "scannerDeviceId";
+    private static final String CONNECTED_AT_ATTRIBUTE = "scannerConnectedAt";
+    private static final String OFFLINE_SINCE_ATTRIBUTE = "scannerOfflineSince";
+    private static final String MONITOR_ROLE = "MONITOR";
+    private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+    private static final int MAX_BATCH_SCANS = 500;
+    private static final long TIME_STEP_MILLIS = 30_000L;
+
+    private final QrCodeService qrCodeService;
+    private final JsonMapper jsonMapper;
+    private final long offlineMaxAgeMillis;
+    private final long clockSkewMillis;
+    private final ThreadPoolExecutor scanExecutor;
+
+    // 원본 세션 ID -> 동시 전송 가능하도록 감싼 세션 (스캐너 + 모니터)
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // 기기 ID -> 서버가 마지막으로 메시지를 받은(또는 연결된) 시각, 다음 연결에서 오프라인 구간 시작으로 사용
+    // (끊김은 늦게 감지될 수 있으므로 종료 시각은 쓰지 않음)
+    private final Map<String, Long> lastSeenByDevice = new ConcurrentHashMap<>();
+
+    public ScannerWebSocketHandler(
+            QrCodeService qrCodeService,
+            JsonMapper jsonMapper,
+            @Value("${app.qr.scanner.workers:4}") int workers,
+            @Value("${app.qr.scanner.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.qr.scanner.offline-max-age:5m}") Duration offlineMaxAge,
+            @Value("${app.qr.scanner.clock-skew:5s}") Duration clockSkew
+    ) {
+        this.qrCodeService = qrCodeService;
+        this.jsonMapper = jsonMapper;
+        this.offlineMaxAgeMillis = offlineMaxAge.toMillis();
+        this.clockSkewMillis = clockSkew.toMillis();
+        // 큐가 가득 차면 RejectedExecutionException (호출한 WebSocket 스레드에서 실패 결과 전송)
+        this.scanExecutor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("qr-scanner-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanExecutor.shutdownNow();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Map<String, String> params = getQueryParams(session);
+        String deviceId = params.get("deviceId");
+        if (deviceId == null && !MONITOR_ROLE.equals(params.get("role"))) {
+            log.warn("deviceId를 찾을 수 없어 스캐너 연결을 종료합니다: sessionId={}", session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+
+        if (deviceId != null) {
+            long now = System.currentTimeMillis();
+            session.getAttributes().put(DEVICE_ID_ATTRIBUTE, deviceId);
+            session.getAttributes().put(CONNECTED_AT_ATTRIBUTE, now);
+            Long offlineSince = lastSeenByDevice.put(deviceId, now);
+            if (offlineSince != null) {
+                session.getAttributes().put(OFFLINE_SINCE_ATTRIBUTE, offlineSince);
+            }
+        }
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_SIZE_LIMIT));
+        log.info("스캐너 WebSocket 연결됨: deviceId={}, sessionId={}", deviceId, session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        sessions.remove(session.getId());
+        log.info("스캐너 WebSocket 연결 종료: sessionId={}, status={}", session.getId(), status);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.error("스캐너 WebSocket 전송 오류: sessionId={}", session.getId(), exception);
+        sessions.remove(session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        WebSocketSession decorated = sessions.get(session.getId());
+        if (decorated == null || session.getAttributes().get(DEVICE_ID_ATTRIBUTE) == null) {
+            return;
+        }
+        touchDevice(session);
+
+        JsonNode payload;
+        try {
+            payload = jsonMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            log.debug("스캔 요청 파싱 실패: sessionId={}", session.getId());
+            return;
+        }
+
+        switch (payload.path("type").asString("")) {
+            case "SCAN" -> submit(decorated, payload, false);
+            case "SCAN_BATCH" -> {
+                JsonNode scans = payload.path("scans");
+                if (scans.size() > MAX_BATCH_SCANS) {
+                    log.warn("스캔 일괄 업로드 크기 초과: sessionId={}, size={}", session.getId(), scans.size());
+                    return;
+                }
+                for (JsonNode scan : scans) {
+                    submit(decorated, scan, true);
+                }
+            }
+            default -> log.debug("알 수 없는 스캐너 이벤트: sessionId={}", session.getId());
+        }
+    }
+
+    /**
+     * 입장 처리 커밋 후 연결된 모든 스캐너/모니터에 전달 (HTTP 검증 API로 처리된 입장 포함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArrived(QrArrivedEvent event) {
+        broadcast(WebSocketMessage.qrArrived(QrVerifyResponse.arrived(event.arrival())));
+    }
+
+    /**
+     * 연결된 스캐너/모니터 세션 수 조회
+     */
+    public int getConnectedSessionCount() {
+        return sessions.size();
+    }
+
+    private void submit(WebSocketSession session, JsonNode scan, boolean offline) {
+        String requestId = scan.path("requestId").asString(null);
+        String qrData = scan.path("qrData").asString("");
+        boolean seat = scan.path("seat").asBoolean(false);
+        long scannedAt = offline && scan.path("scannedAt").isNumber()
+                ? scan.path("scannedAt").asLong()
+                : System.currentTimeMillis();
+
+        if (offline && !isWithinOfflineWindow(session, scannedAt)) {
+            send(session, WebSocketMessage.scanResult(
+                    requestId, true, QrVerifyResponse.invalid("오프라인 스캔 유효 시간이 지났습니다.")));
+            return;
+        }
+        try {
+            scanExecutor.execute(() -> send(session, WebSocketMessage.scanResult(
+                    requestId, offline, verify(qrData, scannedAt, seat))));
+        } catch (RejectedExecutionException e) {
+            log.warn("스캔 처리 거부 (작업 큐 가득 참): sessionId={}, requestId={}", session.getId(), requestId);
+            send(session, WebSocketMessage.scanResult(
+                    requestId, offline, QrVerifyResponse.invalid("스캔 요청이 많아 처리하지 못했습니다. 다시 스캔해주세요.")));
+        }
+    }
+
+    /**
+     * 오프라인 스캔 시각이 서버가 본 연결 끊김 구간 안인지 확인
+     * 이전 세션 기록이 없으면(서버 재시작, 다른 노드) 이번 연결 시각 기준 offline-max-age 까지만 인정
+     */
+    private boolean isWithinOfflineWindow(WebSocketSession session, long scannedAt) {
+        Map<String, Object> attributes = session.getAttributes();
+        long connectedAt = (Long) attributes.get(CONNECTED_AT_ATTRIBUTE);
+        Long offlineSince = (Long) attributes.get(OFFLINE_SINCE_ATTRIBUTE);
+        long from = Math.max(
+                connectedAt - offlineMaxAgeMillis,
+                offlineSince != null ? offlineSince - clockSkewMillis : Long.MIN_VALUE);
+        return scannedAt >= from && scannedAt <= connectedAt + clockSkewMillis;
+    }
+
+    private void touchDevice(WebSocketSession session) {
+        Object deviceId = session.getAttributes().get(DEVICE_ID_ATTRIBUTE);
+        if (deviceId != null) {
+            lastSeenByDevice.put((String) deviceId, System.currentTimeMillis());
+        }
+    }
+
+    private QrVerifyResponse verify(String qrData, long scannedAt, boolean seat) {
+        if (qrData.isBlank()) {
+            return QrVerifyResponse.invalid("QR 데이터가 없습니다.");
+        }
+
+        // 오프라인 스캔은 (연결 끊김 구간 안에서 확인된) 스캔 시각의 시간 스텝으로 검증
+
+        long timeStep = scannedAt / TIME_STEP_MILLIS;
+        QrCodeService.QrScanResult result = seat
+                ? qrCodeService.verifyAndSeat(qrData, timeStep)
+                : qrCodeService.verifyQrCode(qrData, timeStep);
+        if (result == null) {
+            return QrVerifyResponse.invalid("유효하지 않은 QR 코드입니다. 다시 스캔해주세요.");
+        }
+        if (result.alreadyArrived()) {
+            return QrVerifyResponse.alreadyArrived(result.arrival());
+        }
+        return seat
+                ? QrVerifyResponse.seated(result.arrival(), result.tableId(), result.tableNumber())
+                : QrVerifyResponse.arrived(result.arrival());
+    }
+
+    private void broadcast(WebSocketMessage message) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        TextMessage textMessage = new TextMessage(jsonMapper.writeValueAsString(message));
+        sessions.values().forEach(session -> send(session, textMessage, message.getType()));
+    }
+
+    private void send(WebSocketSession session, WebSocketMessage message) {
+        send(session, new TextMessage(jsonMapper.writeValueAsString(message)), message.getType());
+    }
+
+    private void send(WebSocketSession session, TextMessage textMessage, String type) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(textMessage);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("스캐너 메시지 전송 실패: sessionId={}, type={}", session.getId(), type, e);
+        }
+    }
+
+    private Map<String, String> getQueryParams(WebSocketSession session) {
+        Map<String, String> params = new HashMap<>();
+        String query = session.getUri() != null ? session.getUri().getQuery() : null;
+        if (query == null) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            String[] keyValue = param.split("=", 2);
+            if (keyValue.length == 2) {
+                params.put(keyValue[0], keyValue[1]);
+            }
+        }
+        return params;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.backend.repository;
 
 import com.example.backend.domain.entity.ChatMessage;
+import com.example.backend.repository.projection.ChatSearchMessageRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,14 +15,35 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     List<ChatMessage> findByEventIdAndChatRoomIdOrderByCreatedAtAsc(Long eventId, Long chatRoomId);
 
+    // 커서 기반 조회: (chat_room_id, id) 인덱스 범위 스캔
+    List<ChatMessage> findByEventIdAndChatRoomIdOrderByIdDesc(Long eventId, Long chatRoomId, Limit limit);
+
+    List<ChatMessage> findByEventIdAndChatRoomIdAndIdLessThanOrderByIdDesc(
+            Long eventId,
+            Long chatRoomId,
+            Long beforeId,
+            Limit limit
+    );
+
+    List<ChatMessage> findByEventIdAndChatRoomIdAndIdGreaterThanOrderByIdAsc(
+            Long eventId,
+            Long chatRoomId,
+            Long afterId,
+            Limit limit
+    );
+
+    // 검색 색인 재구성: ID 기준 키셋 페이지 조회
     @Query("""
-            SELECT COUNT(m)
+            SELECT new com.example.backend.repository.projection.ChatSearchMessageRow(
+                m.id, m.chatRoom.id, m.senderRole, m.type, m.message, m.createdAt)
             FROM ChatMessage m
             WHERE m.event.id = :eventId
-              AND m.chatRoom.id = :chatRoomId
-              AND m.isRead = false
+              AND m.id > :afterId
+            ORDER BY m.id ASC
             """)
-    Long countUnreadMessages(@Param("eventId") Long eventId, @Param("chatRoomId") Long chatRoomId);
-
-    List<ChatMessage> findByEventIdAndChatRoomIdAndIsReadFalse(Long eventId, Long chatRoomId);
+    List<ChatSearchMessageRow> findSearchRowsByEventIdAfter(
+            @Param("eventId") Long eventId,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
 }
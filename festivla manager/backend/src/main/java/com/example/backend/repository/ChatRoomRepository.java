@@ -2,20 +2,119 @@ package com.example.backend.repository;
 
 import com.example.backend.domain.entity.ChatRoom;
 import com.example.backend.domain.enums.ChatRoomStatus;
+import com.example.backend.domain.enums.SenderRole;
+import com.example.backend.repository.projection.ChatSearchRoomRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
+    @EntityGraph(attributePaths = "user")
     List<ChatRoom> findByEventIdAndUserIdOrderByUpdatedAtDesc(Long eventId, Long userId);
 
     Optional<ChatRoom> findByEventIdAndUserIdAndStatus(Long eventId, Long userId, ChatRoomStatus status);
 
+    @EntityGraph(attributePaths = "user")
     List<ChatRoom> findByEventIdAndStatusOrderByUpdatedAtDesc(Long eventId, ChatRoomStatus status);
 
+    @EntityGraph(attributePaths = "user")
     List<ChatRoom> findByEventIdOrderByUpdatedAtDesc(Long eventId);
+
+    List<ChatRoom> findByEventIdAndStatusAndUserIdIn(Long eventId, ChatRoomStatus status, Collection<Long> userIds);
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.ChatSearchRoomRow(r.id, u.id, u.nickname)
+            FROM ChatRoom r
+            JOIN r.user u
+            WHERE r.event.id = :eventId
+            """)
+    List<ChatSearchRoomRow> findSearchRowsByEventId(@Param("eventId") Long eventId);
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.ChatSearchRoomRow(r.id, u.id, u.nickname)
+            FROM ChatRoom r
+            JOIN r.user u
+            WHERE r.id = :chatRoomId
+            """)
+    Optional<ChatSearchRoomRow> findSearchRowById(@Param("chatRoomId") Long chatRoomId);
+
+    @Query("SELECT r.user.id FROM ChatRoom r WHERE r.id = :chatRoomId")
+    Optional<Long> findUserIdById(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 새 메시지 반영 (마지막 메시지/시각 갱신, 받는 쪽 안 읽은 수 +1), 동시 전송에도 카운터가 유실되지 않도록 단일 UPDATE로 처리
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom r
+            SET r.lastMessage = :message,
+                r.lastMessageAt = :sentAt,
+                r.adminUnreadCount = r.adminUnreadCount + :adminUnreadDelta,
+                r.studentUnreadCount = r.studentUnreadCount + :studentUnreadDelta,
+                r.updatedAt = :sentAt
+            WHERE r.id = :chatRoomId
+            """)
+    int recordMessage(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("message") String message,
+            @Param("sentAt") LocalDateTime sentAt,
+            @Param("adminUnreadDelta") long adminUnreadDelta,
+            @Param("studentUnreadDelta") long studentUnreadDelta
+    );
+
+    /**
+     * 관리자 읽음 워터마크 전진 (뒤로 가지 않음), 안 읽은 수는 워터마크 이후 학생 메시지 수로 다시 계산
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom r
+            SET r.adminLastReadMessageId = :messageId,
+                r.adminUnreadCount = (
+                    SELECT COUNT(m)
+                    FROM ChatMessage m
+                    WHERE m.chatRoom.id = r.id
+                      AND m.id > :messageId
+                      AND m.senderRole = :counterpartRole
+                )
+            WHERE r.id = :chatRoomId
+              AND r.adminLastReadMessageId < :messageId
+            """)
+    int advanceAdminReadWatermark(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("messageId") Long messageId,
+            @Param("counterpartRole") SenderRole counterpartRole
+    );
+
+    /**
+     * 학생 읽음 워터마크 전진 (뒤로 가지 않음), 안 읽은 수는 워터마크 이후 관리자 메시지 수로 다시 계산
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom r
+            SET r.studentLastReadMessageId = :messageId,
+                r.studentUnreadCount = (
+                    SELECT COUNT(m)
+                    FROM ChatMessage m
+                    WHERE m.chatRoom.id = r.id
+                      AND m.id > :messageId
+                      AND m.senderRole = :counterpartRole
+                )
+            WHERE r.id = :chatRoomId
+              AND r.studentLastReadMessageId < :messageId
+            """)
+    int advanceStudentReadWatermark(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("messageId") Long messageId,
+            @Param("counterpartRole") SenderRole counterpartRole
+    );
 }
@@ -10,4 +10,6 @@ import java.util.Optional;
 public interface TableAssignmentHistoryRepository extends JpaRepository<TableAssignmentHistory, Long> {
 
     Optional<TableAssignmentHistory> findFirstByTableIdAndEndedAtIsNullOrderByStartedAtDesc(Long tableId);
+
+    boolean existsByWaitingId(Long waitingId);
 }
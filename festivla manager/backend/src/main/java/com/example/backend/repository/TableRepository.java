@@ -2,7 +2,10 @@ package com.example.backend.repository;
 
 import com.example.backend.domain.entity.Table;
 import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.repository.projection.TableListRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +16,38 @@ public interface TableRepository extends JpaRepository<Table, Long> {
 
     List<Table> findByEventIdOrderByTableNumberAsc(Long eventId);
 
+    @Query("""
+            SELECT new com.example.backend.repository.projection.TableListRow(
+                t.id, t.tableNumber, t.capacity, t.status, cw.id, t.statusChangedAt
+            )
+            FROM Table t
+            LEFT JOIN t.currentWaiting cw
+            WHERE t.event.id = :eventId
+            ORDER BY t.tableNumber ASC
+            """)
+    List<TableListRow> findListRowsByEventId(@Param("eventId") Long eventId);
+
+    Optional<Table> findByCurrentWaitingId(Long waitingId);
+
+    /**
+     * 인원수를 수용하는 가장 작은 빈 테이블을 잠금 (다른 트랜잭션이 잠근 행은 건너뜀)
+     */
+    @Query(value = """
+            SELECT *
+            FROM tables
+            WHERE event_id = :eventId
+              AND status = :status
+              AND capacity >= :headCount
+            ORDER BY capacity ASC, table_number ASC
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<Table> lockBestFitEmptyTable(
+            @Param("eventId") Long eventId,
+            @Param("headCount") Integer headCount,
+            @Param("status") String status
+    );
+
     Optional<Table> findByEventIdAndTableNumber(Long eventId, Integer tableNumber);
 
     boolean existsByEventIdAndTableNumber(Long eventId, Integer tableNumber);
@@ -2,12 +2,18 @@ package com.example.backend.repository;
 
 import com.example.backend.domain.entity.Waiting;
 import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.repository.projection.QrArrivalRow;
+import com.example.backend.repository.projection.QrShortCodeRow;
+import com.example.backend.repository.projection.WaitingListRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +31,33 @@ public interface WaitingRepository extends JpaRepository<Waiting, Long> {
 
     List<Waiting> findByEventIdAndStatusOrderByWaitingNumberAsc(Long eventId, WaitingStatus status);
 
+    @Query("""
+            SELECT new com.example.backend.repository.projection.WaitingListRow(
+                w.id, w.waitingNumber, w.headCount, w.status, w.callTime, w.createdAt,
+                u.id, u.name, u.nickname, u.phoneNumber
+            )
+            FROM Waiting w
+            JOIN w.user u
+            WHERE w.event.id = :eventId
+            ORDER BY w.waitingNumber ASC
+            """)
+    List<WaitingListRow> findListRowsByEventId(@Param("eventId") Long eventId);
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.WaitingListRow(
+                w.id, w.waitingNumber, w.headCount, w.status, w.callTime, w.createdAt,
+                u.id, u.name, u.nickname, u.phoneNumber
+            )
+            FROM Waiting w
+            JOIN w.user u
+            WHERE w.event.id = :eventId AND w.status = :status
+            ORDER BY w.waitingNumber ASC
+            """)
+    List<WaitingListRow> findListRowsByEventIdAndStatus(
+            @Param("eventId") Long eventId,
+            @Param("status") WaitingStatus status
+    );
+
     @Query("""
             SELECT COALESCE(MAX(w.waitingNumber), 0)
             FROM Waiting w
@@ -56,4 +89,71 @@ public interface WaitingRepository extends JpaRepository<Waiting, Long> {
             @Param("status") WaitingStatus status,
             @Param("startDate") java.time.LocalDateTime startDate
     );
+
+    /**
+     * 호출 상태(CALLED)이고 호출 시각이 입장권과 같은 경우에만 입장 완료로 전환, 단일 UPDATE로 처리하여 동시 스캔에도 한 번만 성공
+     * 이후 같은 트랜잭션에서 웨이팅을 다시 읽을 때 전환 전 상태가 보이지 않도록 영속성 컨텍스트를 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Waiting w
+            SET w.status = :arrived,
+                w.updatedAt = :now
+            WHERE w.id = :waitingId
+              AND w.status = :called
+              AND w.callTime >= :callTimeFrom
+              AND w.callTime < :callTimeTo
+            """)
+    int markArrivedIfCalled(
+            @Param("waitingId") Long waitingId,
+            @Param("callTimeFrom") LocalDateTime callTimeFrom,
+            @Param("callTimeTo") LocalDateTime callTimeTo,
+            @Param("called") WaitingStatus called,
+            @Param("arrived") WaitingStatus arrived,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.QrArrivalRow(
+                w.id, w.event.id, u.id, u.nickname, w.headCount
+            )
+            FROM Waiting w
+            JOIN w.user u
+            WHERE w.id = :waitingId
+            """)
+    Optional<QrArrivalRow> findQrArrivalRowById(@Param("waitingId") Long waitingId);
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.QrArrivalRow(
+                w.id, w.event.id, u.id, u.nickname, w.headCount
+            )
+            FROM Waiting w
+            JOIN w.user u
+            WHERE w.id = :waitingId
+              AND w.status = :status
+              AND w.callTime >= :callTimeFrom
+              AND w.callTime < :callTimeTo
+            """)
+    Optional<QrArrivalRow> findQrArrivalRowByStatus(
+            @Param("waitingId") Long waitingId,
+            @Param("status") WaitingStatus status,
+            @Param("callTimeFrom") LocalDateTime callTimeFrom,
+            @Param("callTimeTo") LocalDateTime callTimeTo
+    );
+
+    @Query("""
+            SELECT new com.example.backend.repository.projection.QrShortCodeRow(
+                w.id, w.callTime, w.totpSecret, w.waitingNumber, u.nickname, w.headCount
+            )
+            FROM Waiting w
+            JOIN w.user u
+            WHERE w.event.id = :eventId
+              AND w.status = :status
+            ORDER BY w.callTime DESC
+            """)
+    List<QrShortCodeRow> findShortCodeRowsByStatus(
+            @Param("eventId") Long eventId,
+            @Param("status") WaitingStatus status,
+            Limit limit
+    );
 }
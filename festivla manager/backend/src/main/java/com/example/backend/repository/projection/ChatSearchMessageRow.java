@@ -0,0 +1,19 @@
+package com.example.backend.repository.projection;
+
+import com.example.backend.domain.enums.MessageType;
+import com.example.backend.domain.enums.SenderRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 검색 색인용 메시지 읽기 모델 (색인 재구성 시 엔티티 대신 조회)
+ */
+public record ChatSearchMessageRow(
+        Long messageId,
+        Long chatRoomId,
+        SenderRole senderRole,
+        MessageType type,
+        String message,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.backend.repository.projection;
+
+/**
+ * 채팅 검색 색인용 채팅방 읽기 모델 (채팅방 학생 닉네임)
+ */
+public record ChatSearchRoomRow(
+        Long chatRoomId,
+        Long userId,
+        String userNickname
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.backend.repository.projection;
+
+/**
+ * QR 입장 처리 결과 읽기 모델 (웨이팅 + 학생 닉네임)
+ */
+public record QrArrivalRow(
+        Long waitingId,
+        Long eventId,
+        Long userId,
+        String userNickname,
+        Integer headCount
+) {
+}
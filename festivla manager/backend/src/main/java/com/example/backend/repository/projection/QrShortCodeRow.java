@@ -0,0 +1,16 @@
+package com.example.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단축 코드 색인용 호출 웨이팅 읽기 모델 (코드 계산 값 + 동일 코드 구분용 표시 정보)
+ */
+public record QrShortCodeRow(
+        Long waitingId,
+        LocalDateTime callTime,
+        String totpSecret,
+        Long waitingNumber,
+        String userNickname,
+        Integer headCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.backend.repository.projection;
+
+import com.example.backend.domain.enums.TableStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 목록 조회용 읽기 모델 (현재 웨이팅은 ID만 조회)
+ */
+public record TableListRow(
+        Long tableId,
+        Integer tableNumber,
+        Integer capacity,
+        TableStatus status,
+        Long currentWaitingId,
+        LocalDateTime statusChangedAt
+) {
+}
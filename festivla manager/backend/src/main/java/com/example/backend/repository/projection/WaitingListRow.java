@@ -0,0 +1,22 @@
+package com.example.backend.repository.projection;
+
+import com.example.backend.domain.enums.WaitingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 웨이팅 목록 조회용 읽기 모델 (웨이팅 + 사용자 정보를 한 번의 JOIN 쿼리로 조회)
+ */
+public record WaitingListRow(
+        Long waitingId,
+        Long waitingNumber,
+        Integer headCount,
+        WaitingStatus status,
+        LocalDateTime callTime,
+        LocalDateTime createdAt,
+        Long userId,
+        String userName,
+        String userNickname,
+        String userPhoneNumber
+) {
+}
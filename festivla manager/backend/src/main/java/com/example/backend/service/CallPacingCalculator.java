@@ -0,0 +1,51 @@
+package com.example.backend.service;
+
+/**
+ * 호출 페이싱 계산식 (상태 없이 입력값만으로 계산, CallPacingService에서 사용)
+ * - 여유 테이블: 목표 점유율에서 허용하는 빈 테이블 수만큼은 채우지 않음
+ * - 노쇼 보정: 채울 자리 / (1 - 노쇼율) 만큼 호출
+ * - 적분 보정: 실제 점유율과 목표의 차이를 누적하되 전체 테이블 대비 ±INTEGRAL_LIMIT 로 제한
+ */
+final class CallPacingCalculator {
+
+    static final double INTEGRAL_GAIN = 0.05;
+    static final double INTEGRAL_LIMIT = 0.2; // 전체 테이블 대비 보정 한도
+
+    private CallPacingCalculator() {
+    }
+
+    /**
+     * 점유율 오차를 누적한 다음 적분값 (대기 팀이 없으면 못 채운 자리를 보정하지 않도록 그대로 유지)
+     */
+    static double nextIntegral(double integral, double targetOccupancy, int occupiedTables, int totalTables, long queueSize) {
+        if (totalTables <= 0 || queueSize <= 0) {
+            return integral;
+        }
+        double error = targetOccupancy - (double) occupiedTables / totalTables;
+        return Math.clamp(integral + INTEGRAL_GAIN * error, -INTEGRAL_LIMIT, INTEGRAL_LIMIT);
+    }
+
+    /**
+     * 추천 호출 수 (대기 팀 수를 넘지 않음)
+     * @param expectedFreeTables 호출한 팀이 도착할 때까지 비게 될 테이블 수
+     * @param outstandingCalls 호출했지만 아직 입장/노쇼가 정해지지 않은 팀 수
+     */
+    static int recommendedCalls(
+            int expectedFreeTables,
+            int totalTables,
+            double targetOccupancy,
+            double integral,
+            double noShowRate,
+            int outstandingCalls,
+            long queueSize
+    ) {
+        if (totalTables <= 0) {
+            return 0;
+        }
+        // 부동소수 오차로 (1 - 0.9) * 10 이 0.999..로 계산되어 0으로 내림되지 않게 보정
+        int idleAllowance = (int) Math.floor((1.0 - targetOccupancy) * totalTables + 1e-9);
+        double slotsToFill = expectedFreeTables - idleAllowance + integral * totalTables;
+        double callsNeeded = Math.max(0.0, slotsToFill) / (1.0 - noShowRate) - outstandingCalls;
+        return (int) Math.min(queueSize, Math.max(0L, (long) Math.ceil(callsNeeded)));
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.CallPacingResponse;
+import com.example.backend.event.TableStatusChangedEvent;
+import com.example.backend.event.WaitingCallEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 페이싱 (빈 테이블이 생기기 전에 미리 호출해 점유율을 목표 근처로 유지)
+ * 호출/입장/노쇼 이벤트와 테이블 상태 변경 이벤트만으로 메모리 상태를 갱신하고, 주기마다 추천 호출 수를 다시 계산한다.
+ * - 관측값 (지수 이동 평균): 호출→입장 시간, 노쇼율(노쇼 만료 + 호출 후 취소), 테이블 사용 시간, 청소 시간
+ * - 입장 시간 안에 비게 될 테이블 = 빈 테이블 + 예상 종료가 지난/다가온 사용 중·청소 중 테이블
+ * - 추천 호출 수 = 채울 자리 / (1 - 노쇼율) - 아직 오지 않은 호출 수, 실제 점유율과 목표의 차이를 누적해 보정
+ * mode: off(사용 안 함), recommend(추천만, 기본), auto(대기열 앞에서부터 자동 호출, 주기당 max-calls-per-tick 팀까지)
+ * 대기열이 이벤트 구분 없이 하나이므로 페이싱도 전체 테이블 기준이며, 인원수/수용 인원은 고려하지 않는다.
+ * 이벤트는 변경이 일어난 노드에만 전달되므로, 호출 대기/테이블 상태는 resync-interval 마다 DB에서 다시 읽는다.
+ * auto 모드는 주기마다 Redis 잠금을 얻은 노드 하나만 DB에서 상태를 다시 읽은 뒤 호출한다. (Redis 오류 시 호출하지 않음)
+ */
+@Slf4j
+@Service
+public class CallPacingService {
+
+    private static final String MODE_OFF = "off";
+    private static final String MODE_AUTO = "auto";
+    private static final double DEFAULT_ARRIVAL_SECONDS = 180.0;
+    private static final double DEFAULT_NO_SHOW_RATE = 0.15;
+    private static final double DEFAULT_OCCUPANCY_SECONDS = 3_600.0;
+    private static final double MAX_NO_SHOW_RATE = 0.9;
+    private static final String AUTO_CALL_LOCK_KEY = "pacing:auto-call";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WaitingService waitingService;
+    private final WaitingQueueService waitingQueueService;
+    private final String mode;
+    private final double targetOccupancy;
+    private final Duration interval;
+    private final Duration resyncInterval;
+    private final int maxCallsPerTick;
+    private final double smoothing;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 아래 상태는 this로 잠금
+    private final Map<Long, LocalDateTime> outstandingCalls = new HashMap<>();
+    private final Map<Long, TableState> tables = new HashMap<>();
+    private double arrivalSeconds = DEFAULT_ARRIVAL_SECONDS;
+    private double noShowRate = DEFAULT_NO_SHOW_RATE;
+    private double occupancySeconds = DEFAULT_OCCUPANCY_SECONDS;
+    private double cleaningSeconds;
+    private double occupancyIntegral;
+    private int lastAutoCalls;
+    private long lastResyncNanos;
+    private boolean synced;
+
+    private volatile CallPacingResponse lastPlan;
+    private volatile boolean running;
+    private Thread pacingThread;
+
+    public CallPacingService(
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            WaitingService waitingService,
+            WaitingQueueService waitingQueueService,
+            @Value("${app.pacing.mode:recommend}") String mode,
+            @Value("${app.pacing.target-occupancy:0.95}") double targetOccupancy,
+            @Value("${app.pacing.interval:10s}") Duration interval,
+            @Value("${app.pacing.resync-interval:1m}") Duration resyncInterval,
+            @Value("${app.pacing.max-calls-per-tick:3}") int maxCallsPerTick,
+            @Value("${app.pacing.smoothing:0.2}") double smoothing,
+            @Value("${app.table.cleaning-duration:5m}") Duration cleaningDuration
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.waitingService = waitingService;
+        this.waitingQueueService = waitingQueueService;
+        this.mode = mode.toLowerCase();
+        this.targetOccupancy = Math.clamp(targetOccupancy, 0.0, 1.0);
+        this.interval = interval;
+        this.resyncInterval = resyncInterval;
+        this.maxCallsPerTick = maxCallsPerTick;
+        this.smoothing = Math.clamp(smoothing, 0.01, 1.0);
+        this.cleaningSeconds = cleaningDuration.isPositive() ? cleaningDuration.toSeconds() : 0.0;
+    }
+
+    @PostConstruct
+    void start() {
+        if (MODE_OFF.equals(mode)) {
+            return;
+        }
+        running = true;
+        pacingThread = Thread.ofPlatform()
+                .name("call-pacing")
+                .daemon(true)
+                .start(this::runPacingLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (pacingThread == null) {
+            return;
+        }
+        running = false;
+        pacingThread.interrupt();
+        pacingThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 최근 페이싱 계산 결과 (아직 없으면 DB에서 상태를 읽은 뒤 지금 계산)
+     */
+    public CallPacingResponse getPlan() {
+        CallPacingResponse plan = lastPlan;
+        if (plan != null) {
+            return plan;
+        }
+        resyncIfDue(false);
+        return plan(LocalDateTime.now(), waitingQueueService.getQueueSize());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onWaitingCall(WaitingCallEvent event) {
+        switch (event.outcome()) {
+            case CALLED -> outstandingCalls.put(event.waitingId(), event.callTime());
+            case ARRIVED -> {
+                LocalDateTime callTime = outstandingCalls.remove(event.waitingId());
+                if (callTime == null) {
+                    callTime = event.callTime();
+                }
+                if (callTime != null) {
+                    arrivalSeconds = ewma(arrivalSeconds, secondsBetween(callTime, LocalDateTime.now()));
+                }
+                noShowRate = ewma(noShowRate, 0.0);
+            }
+            case NO_SHOW, CANCELED -> {
+                outstandingCalls.remove(event.waitingId());
+                noShowRate = Math.min(MAX_NO_SHOW_RATE, ewma(noShowRate, 1.0));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTableStatusChanged(TableStatusChangedEvent event) {
+        TableState previous = tables.put(event.tableId(), new TableState(event.status(), event.changedAt()));
+        if (previous == null || previous.status() == event.status()) {
+            return;
+        }
+
+        double seconds = secondsBetween(previous.since(), event.changedAt());
+        if (previous.status() == TableStatus.OCCUPIED) {
+            occupancySeconds = ewma(occupancySeconds, seconds);
+        } else if (previous.status() == TableStatus.CLEANING) {
+            cleaningSeconds = ewma(cleaningSeconds, seconds);
+        }
+    }
+
+    private void runPacingLoop() {
+        while (running) {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.warn("Call pacing tick failed.", e);
+            }
+            try {
+                Thread.sleep(interval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void tick() {
+        boolean autoCall = MODE_AUTO.equals(mode) && tryAcquireAutoCallLock();
+        // 자동 호출하는 노드는 다른 노드에서 일어난 호출/입장까지 반영하도록 매번 다시 읽음
+        resyncIfDue(autoCall);
+        CallPacingResponse plan = plan(LocalDateTime.now(), waitingQueueService.getQueueSize());
+        lastPlan = plan;
+        if (!autoCall || plan.getRecommendedCalls() == 0) {
+            return;
+        }
+
+        // 호출은 잠금 밖에서 (호출 이벤트가 다시 이 서비스로 들어옴)
+        int called = 0;
+        int limit = Math.min(plan.getRecommendedCalls(), maxCallsPerTick);
+        while (called < limit) {
+            Long waitingId = waitingQueueService.getFirstWaitingId();
+            if (waitingId == null) {
+                break;
+            }
+            try {
+                waitingService.callUser(waitingId);
+                called++;
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.warn("Auto call skipped: waitingId={}, reason={}", waitingId, e.getMessage());
+                break;
+            }
+        }
+        synchronized (this) {
+            lastAutoCalls = called;
+        }
+        if (called > 0) {
+            log.info("Auto called {} waitings (recommended={}).", called, plan.getRecommendedCalls());
+        }
+    }
+
+    /**
+     * 주기당 한 노드만 자동 호출하도록 Redis 잠금 (주기 길이만큼 유지되고 풀지 않음)
+     */
+    private boolean tryAcquireAutoCallLock() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(AUTO_CALL_LOCK_KEY, nodeId, interval));
+        } catch (RuntimeException e) {
+            log.warn("Call pacing lock failed, skipping auto calls this tick.", e);
+            return false;
+        }
+    }
+
+    private synchronized CallPacingResponse plan(LocalDateTime now, long queueSize) {
+        LocalDateTime horizon = now.plusSeconds(Math.round(arrivalSeconds));
+        int totalTables = tables.size();
+        int occupiedTables = 0;
+        int expectedFreeTables = 0;
+        for (TableState table : tables.values()) {
+            LocalDateTime expectedFreeAt = switch (table.status()) {
+                case EMPTY -> now;
+                case CLEANING -> table.since().plusSeconds(Math.round(cleaningSeconds));
+                case OCCUPIED -> table.since().plusSeconds(Math.round(occupancySeconds + cleaningSeconds));
+            };
+            if (table.status() == TableStatus.OCCUPIED) {
+                occupiedTables++;
+            }
+            if (!expectedFreeAt.isAfter(horizon)) {
+                expectedFreeTables++;
+            }
+        }
+
+        occupancyIntegral = CallPacingCalculator.nextIntegral(
+                occupancyIntegral, targetOccupancy, occupiedTables, totalTables, queueSize);
+        int recommendedCalls = CallPacingCalculator.recommendedCalls(
+                expectedFreeTables, totalTables, targetOccupancy, occupancyIntegral, noShowRate,
+                outstandingCalls.size(), queueSize);
+
+        return CallPacingResponse.builder()
+                .mode(mode)
+                .recommendedCalls(recommendedCalls)
+                .outstandingCalls(outstandingCalls.size())
+                .queueSize(queueSize)
+                .totalTables(totalTables)
+                .occupiedTables(occupiedTables)
+                .expectedFreeTables(expectedFreeTables)
+                .targetOccupancy(targetOccupancy)
+                .avgArrivalSeconds(Math.round(arrivalSeconds))
+                .noShowRate(noShowRate)
+                .avgOccupancyMinutes(Math.round(occupancySeconds / 60.0))
+                .avgCleaningMinutes(Math.round(cleaningSeconds / 60.0))
+                .lastAutoCalls(lastAutoCalls)
+                .computedAt(now)
+                .build();
+    }
+
+    private synchronized void resyncIfDue(boolean force) {
+        if (force || !synced || System.nanoTime() - lastResyncNanos >= resyncInterval.toNanos()) {
+            resync();
+        }
+    }
+
+    /**
+     * DB의 호출 대기/테이블 상태로 교체 (this 잠금 안에서 호출)
+     * 조회 중 들어온 이벤트는 잠금을 기다렸다가 교체 후에 반영되므로 덮어써지지 않는다.
+     */
+    private void resync() {
+        Map<Long, LocalDateTime> calls = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, call_time FROM waitings WHERE status = ? AND call_time IS NOT NULL",
+                (RowCallbackHandler) rs -> calls.put(rs.getLong("id"), rs.getTimestamp("call_time").toLocalDateTime()),
+                WaitingStatus.CALLED.name()
+        );
+        Map<Long, TableState> tableStates = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, status, COALESCE(status_changed_at, updated_at) AS since FROM tables",
+                (RowCallbackHandler) rs -> tableStates.put(rs.getLong("id"), new TableState(
+                        TableStatus.valueOf(rs.getString("status")), rs.getTimestamp("since").toLocalDateTime()))
+        );
+
+        outstandingCalls.clear();
+        outstandingCalls.putAll(calls);
+        tables.clear();
+        tables.putAll(tableStates);
+        lastResyncNanos = System.nanoTime();
+        if (!synced) {
+            synced = true;
+            log.info("Call pacing started: mode={}, tables={}, outstandingCalls={}", mode, tableStates.size(), calls.size());
+        }
+    }
+
+    private double ewma(double current, double observed) {
+        return current + smoothing * (observed - current);
+    }
+
+    private static double secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0L, Duration.between(from, to).toSeconds());
+    }
+
+    private record TableState(TableStatus status, LocalDateTime since) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.RateLimitStatsResponse;
+import com.example.backend.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 전송 속도 제한 (사용자별 토큰 버킷)
+ * 버킷 상태는 "다음 토큰이 비는 이론적 시각(TAT)" 하나로 표현(GCRA)하여,
+ * 로컬 모드는 사용자별 AtomicLong CAS 한 번, Redis 모드는 Lua 스크립트 한 번으로 판정한다.
+ * - capacity: 연속 허용 개수(버스트), refill-per-second: 초당 보충 개수
+ * - Redis 모드에서 Redis 오류 시 로컬 버킷으로 판정 (전송 자체를 막지 않음)
+ */
+@Slf4j
+@Component
+public class ChatRateLimiter {
+
+    private static final String REDIS_KEY_PREFIX = "chat:rate:";
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1])) or now
+            if tat < now then
+                tat = now
+            end
+            local nextTat = tat + interval
+            local wait = nextTat - now - tolerance
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], nextTat, 'PX', math.ceil(tolerance / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean redisMode;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Cache<Long, AtomicLong> buckets;
+
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder redisFallbackCount = new LongAdder();
+
+    public ChatRateLimiter(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${app.chat.rate-limit.mode:local}") String mode,
+            @Value("${app.chat.rate-limit.capacity:5}") int capacity,
+            @Value("${app.chat.rate-limit.refill-per-second:1}") double refillPerSecond
+    ) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid chat rate limit: capacity=" + capacity + ", refillPerSecond=" + refillPerSecond);
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMode = "redis".equals(mode.toLowerCase(Locale.ROOT));
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.toleranceNanos = intervalNanos * capacity;
+        // 버킷이 가득 찰 시간 동안 전송이 없으면 상태를 버려도 결과가 같으므로 만료
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(toleranceNanos).plusSeconds(1))
+                .build();
+    }
+
+    /**
+     * 토큰 1개 사용, 없으면 RateLimitExceededException (DB 작업 전에 호출)
+     */
+    public void acquire(Long userId) {
+        long waitNanos = redisMode ? tryAcquireRedis(userId) : tryAcquireLocal(userId);
+        if (waitNanos <= 0) {
+            allowedCount.increment();
+            return;
+        }
+
+        rejectedCount.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        throw new RateLimitExceededException("메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    public RateLimitStatsResponse getStats() {
+        return RateLimitStatsResponse.builder()
+                .mode(redisMode ? "redis" : "local")
+                .capacity(capacity)
+                .refillPerSecond(refillPerSecond)
+                .allowedCount(allowedCount.sum())
+                .rejectedCount(rejectedCount.sum())
+                .redisFallbackCount(redisFallbackCount.sum())
+                .trackedUserCount(buckets.estimatedSize())
+                .build();
+    }
+
+    /**
+     * @return 0이면 허용, 양수면 다음 토큰까지 남은 나노초
+     */
+    private long tryAcquireLocal(Long userId) {
+        AtomicLong tat = buckets.get(userId, id -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long nextTat = (current == Long.MIN_VALUE || current - now < 0 ? now : current) + intervalNanos;
+            long wait = nextTat - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, nextTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private long tryAcquireRedis(Long userId) {
+        try {
+            Long waitMicros = stringRedisTemplate.execute(
+                    GCRA_SCRIPT,
+                    List.of(REDIS_KEY_PREFIX + userId),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(intervalNanos)),
+                    String.valueOf(TimeUnit.NANOSECONDS.toMicros(toleranceNanos))
+            );
+            return waitMicros != null ? TimeUnit.MICROSECONDS.toNanos(waitMicros) : 0;
+        } catch (RuntimeException e) {
+            redisFallbackCount.increment();
+            log.warn("Chat rate limit Redis check failed, using local bucket: userId={}", userId, e);
+            return tryAcquireLocal(userId);
+        }
+    }
+}
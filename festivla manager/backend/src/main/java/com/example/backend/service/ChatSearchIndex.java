@@ -0,0 +1,452 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.ChatMessageResponse;
+import com.example.backend.dto.response.ChatSearchResponse;
+import com.example.backend.dto.response.ChatSearchResultResponse;
+import com.example.backend.event.ChatMessageSentEvent;
+import com.example.backend.repository.ChatRoomRepository;
+import com.example.backend.repository.projection.ChatSearchMessageRow;
+import com.example.backend.repository.projection.ChatSearchRoomRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 관리자 채팅 검색용 인메모리 역색인 (이벤트별)
+ * 메시지 본문과 채팅방 학생 닉네임을 2-gram 단위로 색인하여 LIKE '%검색어%' 전체 스캔 없이 부분 일치 검색
+ * - 기동 시 ChatSearchIndexInitializer가 DB에서 재구성
+ * - 이후 메시지 저장 커밋마다 ChatMessageSentEvent로 증분 반영
+ *   (ChatService의 채팅/채팅방 생성 안내 메시지, SystemMessageWriter의 시스템 메시지 일괄 저장)
+ * - 채팅방마다 최근 app.chat.search.max-messages-per-room 개만 유지하고 오래된 메시지부터 색인에서 제거
+ * 단일 노드 메모리 색인이므로 다른 노드에서 저장된 메시지는 해당 노드 재기동 전까지 검색되지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatSearchIndex {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    private static final int GRAM_SIZE = 2;
+    private static final int TEXT_MATCH_SCORE = 2;
+    private static final int NICKNAME_MATCH_SCORE = 1;
+    private static final int MAX_OCCURRENCES_PER_TERM = 3;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final int maxMessagesPerRoom;
+
+    private final Map<Long, EventIndex> indexes = new ConcurrentHashMap<>();
+
+    public ChatSearchIndex(
+            ChatRoomRepository chatRoomRepository,
+            @Value("${app.chat.search.max-messages-per-room:500}") int maxMessagesPerRoom
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.maxMessagesPerRoom = maxMessagesPerRoom;
+    }
+
+    /**
+     * 메시지 저장 커밋 후 색인 반영 (처음 보는 채팅방이면 닉네임을 한 번 조회)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        ChatMessageResponse message = event.message();
+        EventIndex index = indexFor(event.eventId());
+        if (!index.hasRoom(message.getChatRoomId())) {
+            chatRoomRepository.findSearchRowById(message.getChatRoomId())
+                    .ifPresent(index::addRoom);
+        }
+        index.addMessage(new ChatSearchMessageRow(
+                message.getMessageId(),
+                message.getChatRoomId(),
+                message.getSenderRole(),
+                message.getType(),
+                message.getMessage(),
+                message.getCreatedAt()
+        ));
+    }
+
+    public void addRoom(Long eventId, ChatSearchRoomRow room) {
+        indexFor(eventId).addRoom(room);
+    }
+
+    public void addMessage(Long eventId, ChatSearchMessageRow message) {
+        indexFor(eventId).addMessage(message);
+    }
+
+    /**
+     * 이벤트 색인 제거 (이벤트 아카이브 후)
+     */
+    public void removeEvent(Long eventId) {
+        indexes.remove(eventId);
+    }
+
+    public int getMessageCount(Long eventId) {
+        EventIndex index = indexes.get(eventId);
+        return index != null ? index.messageCount() : 0;
+    }
+
+    /**
+     * 검색: 검색어의 모든 단어가 메시지 본문 또는 채팅방 닉네임에 포함된 메시지
+     * 정렬은 점수(본문 일치 2점/등장 횟수, 닉네임 일치 1점) 내림차순, 같으면 최신 메시지 우선
+     * 전체 일치 건수는 세되, 정렬은 요청한 페이지까지의 상위 (page + 1) * size 건만 힙으로 유지
+     */
+    public ChatSearchResponse search(Long eventId, String query, int page, int size) {
+        List<String> terms = tokenize(query);
+        EventIndex index = indexes.get(eventId);
+        SearchPage result = index != null && !terms.isEmpty()
+                ? index.search(terms, page, size)
+                : SearchPage.EMPTY;
+
+        return ChatSearchResponse.builder()
+                .query(query)
+                .totalCount(result.totalCount())
+                .page(page)
+                .size(size)
+                .results(result.results())
+                .build();
+    }
+
+    /**
+     * 소문자 변환 후 문자/숫자가 아닌 문자로 분리, 2자 미만 단어는 제외
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= MIN_TERM_LENGTH) {
+                terms.add(token);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    private EventIndex indexFor(Long eventId) {
+        return indexes.computeIfAbsent(eventId, id -> new EventIndex(maxMessagesPerRoom));
+    }
+
+    private static Set<String> grams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String term : tokenize(text)) {
+            grams.addAll(grams(term));
+        }
+        return grams;
+    }
+
+    private static int countOccurrences(String text, String term) {
+        if (text == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i + term.length() <= text.length() && count < MAX_OCCURRENCES_PER_TERM; i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                count++;
+                i += term.length() - 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 이벤트 하나의 색인
+     * 메시지 ID는 대부분 증가 순서로 들어오므로 포스팅 리스트는 정렬된 long 배열로 유지
+     */
+    private static final class EventIndex {
+
+        // 점수 내림차순, 같으면 최신(ID 큰) 메시지 우선
+        private static final Comparator<ScoredMessage> RANKING = Comparator.comparingInt(ScoredMessage::score)
+                .thenComparingLong(ScoredMessage::messageId)
+                .reversed();
+
+        private final int maxMessagesPerRoom;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, ChatSearchMessageRow> messages = new HashMap<>();
+        private final Map<Long, ChatSearchRoomRow> rooms = new HashMap<>();
+        private final Map<String, PostingList> messagePostings = new HashMap<>();
+        private final Map<String, Set<Long>> nicknamePostings = new HashMap<>();
+        private final Map<Long, PostingList> roomMessages = new HashMap<>();
+
+        EventIndex(int maxMessagesPerRoom) {
+            this.maxMessagesPerRoom = maxMessagesPerRoom;
+        }
+
+        boolean hasRoom(Long chatRoomId) {
+            lock.readLock().lock();
+            try {
+                return rooms.containsKey(chatRoomId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int messageCount() {
+            lock.readLock().lock();
+            try {
+                return messages.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void addRoom(ChatSearchRoomRow room) {
+            lock.writeLock().lock();
+            try {
+                if (rooms.putIfAbsent(room.chatRoomId(), room) == null) {
+                    for (String gram : gramsOf(room.userNickname())) {
+                        nicknamePostings.computeIfAbsent(gram, g -> new HashSet<>()).add(room.chatRoomId());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void addMessage(ChatSearchMessageRow message) {
+            lock.writeLock().lock();
+            try {
+                if (messages.putIfAbsent(message.messageId(), message) != null) {
+                    return;
+                }
+                for (String gram : gramsOf(message.message())) {
+                    messagePostings.computeIfAbsent(gram, g -> new PostingList()).add(message.messageId());
+                }
+                PostingList roomIds = roomMessages.computeIfAbsent(message.chatRoomId(), id -> new PostingList());
+                roomIds.add(message.messageId());
+                while (roomIds.size > maxMessagesPerRoom) {
+                    removeMessage(roomIds.removeFirst());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        SearchPage search(List<String> terms, int page, int size) {
+            lock.readLock().lock();
+            try {
+                // 가장 긴(선택도가 높은) 단어로 후보를 만들고 나머지 단어는 후보에서 직접 확인
+                String anchor = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+                long offset = (long) page * size;
+                int limit = (int) Math.min(offset + size, Integer.MAX_VALUE);
+                // 순위가 가장 낮은 항목이 맨 앞에 오는 크기 limit 의 힙
+                PriorityQueue<ScoredMessage> top = new PriorityQueue<>(RANKING.reversed());
+                long totalCount = 0;
+                for (long messageId : candidates(anchor)) {
+                    ChatSearchMessageRow message = messages.get(messageId);
+                    int score = score(message, rooms.get(message.chatRoomId()), terms);
+                    if (score == 0) {
+                        continue;
+                    }
+                    totalCount++;
+                    ScoredMessage scored = new ScoredMessage(messageId, score);
+                    if (top.size() < limit) {
+                        top.add(scored);
+                    } else if (RANKING.compare(scored, top.peek()) < 0) {
+                        top.poll();
+                        top.add(scored);
+                    }
+                }
+                if (offset >= top.size()) {
+                    return new SearchPage(totalCount, List.of());
+                }
+
+                List<ScoredMessage> ranked = new ArrayList<>(top);
+                ranked.sort(RANKING);
+                List<ChatSearchResultResponse> results = new ArrayList<>(ranked.size() - (int) offset);
+                for (ScoredMessage scored : ranked.subList((int) offset, ranked.size())) {
+                    ChatSearchMessageRow message = messages.get(scored.messageId());
+                    results.add(toResult(message, rooms.get(message.chatRoomId()), scored.score()));
+                }
+                return new SearchPage(totalCount, results);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeMessage(long messageId) {
+            ChatSearchMessageRow message = messages.remove(messageId);
+            if (message == null) {
+                return;
+            }
+            for (String gram : gramsOf(message.message())) {
+                PostingList ids = messagePostings.get(gram);
+                if (ids != null && ids.remove(messageId) && ids.size == 0) {
+                    messagePostings.remove(gram);
+                }
+            }
+        }
+
+        /**
+         * 본문 2-gram 포스팅 교집합 + 닉네임이 일치하는 채팅방의 메시지
+         */
+        private Set<Long> candidates(String term) {
+            Set<Long> candidates = new HashSet<>();
+            PostingList textMatches = intersect(grams(term).stream().map(messagePostings::get).toList());
+            for (int i = 0; i < textMatches.size; i++) {
+                candidates.add(textMatches.ids[i]);
+            }
+
+            Set<Long> nicknameRooms = null;
+            for (String gram : grams(term)) {
+                Set<Long> roomIds = nicknamePostings.getOrDefault(gram, Set.of());
+                if (nicknameRooms == null) {
+                    nicknameRooms = new HashSet<>(roomIds);
+                } else {
+                    nicknameRooms.retainAll(roomIds);
+                }
+            }
+            for (Long chatRoomId : nicknameRooms) {
+                PostingList ids = roomMessages.get(chatRoomId);
+                for (int i = 0; ids != null && i < ids.size; i++) {
+                    candidates.add(ids.ids[i]);
+                }
+            }
+            return candidates;
+        }
+
+        // 모든 단어가 본문 또는 닉네임에 있어야 하며, 하나라도 없으면 0점
+        private static int score(ChatSearchMessageRow message, ChatSearchRoomRow room, List<String> terms) {
+            String nickname = room != null ? room.userNickname() : null;
+            int score = 0;
+            for (String term : terms) {
+                int termScore = countOccurrences(message.message(), term) * TEXT_MATCH_SCORE;
+                if (countOccurrences(nickname, term) > 0) {
+                    termScore += NICKNAME_MATCH_SCORE;
+                }
+                if (termScore == 0) {
+                    return 0;
+                }
+                score += termScore;
+            }
+            return score;
+        }
+
+        private static PostingList intersect(List<PostingList> lists) {
+            if (lists.isEmpty() || lists.contains(null)) {
+                return PostingList.EMPTY;
+            }
+            List<PostingList> sorted = new ArrayList<>(lists);
+            sorted.sort(Comparator.comparingInt(list -> list.size));
+            PostingList result = sorted.get(0);
+            for (int i = 1; i < sorted.size() && result.size > 0; i++) {
+                result = result.intersect(sorted.get(i));
+            }
+            return result;
+        }
+
+        private static ChatSearchResultResponse toResult(ChatSearchMessageRow message, ChatSearchRoomRow room, int score) {
+            return ChatSearchResultResponse.builder()
+                    .messageId(message.messageId())
+                    .chatRoomId(message.chatRoomId())
+                    .userId(room != null ? room.userId() : null)
+                    .userNickname(room != null ? room.userNickname() : null)
+                    .senderRole(message.senderRole())
+                    .type(message.type())
+                    .message(message.message())
+                    .createdAt(message.createdAt())
+                    .score(score)
+                    .build();
+        }
+    }
+
+    private record ScoredMessage(long messageId, int score) {
+    }
+
+    private record SearchPage(long totalCount, List<ChatSearchResultResponse> results) {
+
+        private static final SearchPage EMPTY = new SearchPage(0L, List.of());
+    }
+
+    /**
+     * 정렬된 메시지 ID 목록 (중복 없음)
+     */
+    private static final class PostingList {
+
+        private static final PostingList EMPTY = new PostingList();
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        long removeFirst() {
+            long first = ids[0];
+            System.arraycopy(ids, 1, ids, 0, size - 1);
+            size--;
+            return first;
+        }
+
+        PostingList intersect(PostingList other) {
+            PostingList result = new PostingList();
+            result.ids = new long[Math.max(1, Math.min(size, other.size))];
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] == other.ids[j]) {
+                    result.ids[result.size++] = ids[i];
+                    i++;
+                    j++;
+                } else if (ids[i] < other.ids[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
@@ -10,15 +10,22 @@ import com.example.backend.domain.enums.SenderRole;
 import com.example.backend.dto.request.ChatMessageRequest;
 import com.example.backend.dto.response.ChatMessageResponse;
 import com.example.backend.dto.response.ChatRoomResponse;
+import com.example.backend.dto.response.ChatSearchResponse;
+import com.example.backend.event.ChatMessageSentEvent;
+import com.example.backend.event.ChatReadEvent;
 import com.example.backend.repository.ChatMessageRepository;
 import com.example.backend.repository.ChatRoomRepository;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,10 +34,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ChatService {
 
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 200;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatSearchIndex chatSearchIndex;
 
     @Transactional
     public ChatRoomResponse createChatRoom(Long userId) {
@@ -45,14 +59,17 @@ public class ChatService {
         ).orElse(null);
 
         if (existingRoom != null) {
-            return buildChatRoomResponse(existingRoom);
+            return buildChatRoomResponse(existingRoom, SenderRole.STUDENT);
         }
 
+        // 시작 안내 메시지 1건을 방 생성 시점에 함께 반영
         ChatRoom chatRoom = ChatRoom.builder()
                 .event(event)
                 .user(user)
                 .status(ChatRoomStatus.OPEN)
                 .lastMessage(null)
+                .lastMessageAt(LocalDateTime.now())
+                .studentUnreadCount(1L)
                 .build();
 
         chatRoom = chatRoomRepository.save(chatRoom);
@@ -65,16 +82,19 @@ public class ChatService {
                 .isRead(false)
                 .type(MessageType.SYSTEM)
                 .build();
-        chatMessageRepository.save(systemMessage);
+        systemMessage = chatMessageRepository.save(systemMessage);
+        // 다른 저장 경로와 같이 커밋 후 푸시/검색 색인 반영
+        eventPublisher.publishEvent(new ChatMessageSentEvent(
+                event.getId(), userId, buildChatMessageResponse(systemMessage, chatRoom)));
 
-        return buildChatRoomResponse(chatRoom);
+        return buildChatRoomResponse(chatRoom, SenderRole.STUDENT);
     }
 
     public List<ChatRoomResponse> getMyChatRooms(Long userId) {
         Long eventId = getDefaultEvent().getId();
         List<ChatRoom> chatRooms = chatRoomRepository.findByEventIdAndUserIdOrderByUpdatedAtDesc(eventId, userId);
         return chatRooms.stream()
-                .map(this::buildChatRoomResponse)
+                .map(chatRoom -> buildChatRoomResponse(chatRoom, SenderRole.STUDENT))
                 .collect(Collectors.toList());
     }
 
@@ -84,18 +104,71 @@ public class ChatService {
                 ? chatRoomRepository.findByEventIdAndStatusOrderByUpdatedAtDesc(eventId, status)
                 : chatRoomRepository.findByEventIdOrderByUpdatedAtDesc(eventId);
         return chatRooms.stream()
-                .map(this::buildChatRoomResponse)
+                .map(chatRoom -> buildChatRoomResponse(chatRoom, SenderRole.ADMIN))
                 .collect(Collectors.toList());
     }
 
-    public List<ChatMessageResponse> getMessages(Long chatRoomId) {
+    /**
+     * 메시지 목록 조회 (커서 기반, 항상 ID 오름차순으로 반환)
+     * - afterId: 해당 ID 이후의 새 메시지 (증분 조회)
+     * - beforeId: 해당 ID 이전의 메시지 (이전 기록 더보기)
+     * - 둘 다 없으면 최신 메시지 limit개
+     * 읽음 여부는 채팅방의 역할별 읽음 워터마크로 계산
+     * 학생은 본인 채팅방만 조회할 수 있음
+     */
+    public List<ChatMessageResponse> getMessages(
+            Long chatRoomId, Long userId, SenderRole reader, Long beforeId, Long afterId, Integer limit) {
+        if (beforeId != null && afterId != null) {
+            throw new IllegalArgumentException("beforeId와 afterId는 함께 사용할 수 없습니다.");
+        }
+
         Long eventId = getDefaultEvent().getId();
-        List<ChatMessage> messages = chatMessageRepository.findByEventIdAndChatRoomIdOrderByCreatedAtAsc(eventId, chatRoomId);
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        if (reader == SenderRole.STUDENT && !chatRoom.getUser().getId().equals(userId)) {
+            throw new IllegalStateException("본인 채팅방만 조회할 수 있습니다.");
+        }
+        Limit pageLimit = Limit.of(resolvePageSize(limit));
+        List<ChatMessage> messages;
+        if (afterId != null) {
+            messages = chatMessageRepository.findByEventIdAndChatRoomIdAndIdGreaterThanOrderByIdAsc(
+                    eventId, chatRoomId, afterId, pageLimit);
+        } else {
+            messages = new ArrayList<>(beforeId != null
+                    ? chatMessageRepository.findByEventIdAndChatRoomIdAndIdLessThanOrderByIdDesc(
+                            eventId, chatRoomId, beforeId, pageLimit)
+                    : chatMessageRepository.findByEventIdAndChatRoomIdOrderByIdDesc(eventId, chatRoomId, pageLimit));
+            Collections.reverse(messages);
+        }
+
         return messages.stream()
-                .map(this::buildChatMessageResponse)
+                .map(message -> buildChatMessageResponse(message, chatRoom))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 채팅 메시지 검색 (관리자), DB LIKE 조회 대신 인메모리 역색인 사용
+     */
+    public ChatSearchResponse searchMessages(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (ChatSearchIndex.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("검색어는 " + ChatSearchIndex.MIN_TERM_LENGTH + "자 이상 입력해주세요.");
+        }
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("page는 0 이상이어야 합니다.");
+        }
+        int pageSize = size != null ? size : DEFAULT_SEARCH_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+
+        Long eventId = getDefaultEvent().getId();
+        return chatSearchIndex.search(eventId, query.trim(), pageNumber, Math.min(pageSize, MAX_SEARCH_PAGE_SIZE));
+    }
+
     @Transactional
     public ChatMessageResponse sendMessage(Long chatRoomId, Long userId, ChatMessageRequest request, SenderRole senderRole) {
         Long eventId = getDefaultEvent().getId();
@@ -112,6 +185,7 @@ public class ChatService {
 
         if (chatRoom.getStatus() == ChatRoomStatus.CLOSED) {
             chatRoom.open();
+            chatRoomRepository.saveAndFlush(chatRoom);
         }
 
         ChatMessage message = ChatMessage.builder()
@@ -123,23 +197,42 @@ public class ChatService {
                 .type(MessageType.TALK)
                 .build();
         message = chatMessageRepository.save(message);
+        recordMessage(chatRoom.getId(), message);
 
-        chatRoom.updateLastMessage(request.getMessage());
-        chatRoomRepository.save(chatRoom);
-
-        return buildChatMessageResponse(message);
+        ChatMessageResponse response = buildChatMessageResponse(message, chatRoom);
+        eventPublisher.publishEvent(new ChatMessageSentEvent(eventId, chatRoom.getUser().getId(), response));
+        return response;
     }
 
+    /**
+     * 읽음 처리: 읽은 쪽 역할의 워터마크를 lastReadMessageId까지 전진 (단일 UPDATE, 메시지 행은 수정하지 않음)
+     */
     @Transactional
-    public void markMessagesAsRead(Long chatRoomId, Long userId) {
-        Long eventId = getDefaultEvent().getId();
-        List<ChatMessage> unreadMessages = chatMessageRepository.findByEventIdAndChatRoomIdAndIsReadFalse(eventId, chatRoomId);
+    public void markMessagesAsRead(Long chatRoomId, SenderRole reader, Long lastReadMessageId) {
+        if (lastReadMessageId == null) {
+            return;
+        }
 
-        unreadMessages.stream()
-                .filter(msg -> msg.getSenderRole() != SenderRole.STUDENT || !msg.getChatRoom().getUser().getId().equals(userId))
-                .forEach(ChatMessage::markAsRead);
+        int updated = reader == SenderRole.ADMIN
+                ? chatRoomRepository.advanceAdminReadWatermark(chatRoomId, lastReadMessageId, SenderRole.STUDENT)
+                : chatRoomRepository.advanceStudentReadWatermark(chatRoomId, lastReadMessageId, SenderRole.ADMIN);
+        if (updated == 0) {
+            return;
+        }
+
+        // 학생에게 읽음 확인을 보내려면 채팅방 학생 ID가 필요 (학생이 읽은 경우는 관리자 전체에게 전달)
+        Long studentUserId = reader == SenderRole.ADMIN
+                ? chatRoomRepository.findUserIdById(chatRoomId).orElse(null)
+                : null;
+        eventPublisher.publishEvent(new ChatReadEvent(chatRoomId, studentUserId, reader, lastReadMessageId));
+    }
 
-        chatMessageRepository.saveAll(unreadMessages);
+    /**
+     * 채팅방 학생 사용자 ID 조회 (WebSocket 이벤트 권한 확인용)
+     */
+    public Long getChatRoomUserId(Long chatRoomId) {
+        return chatRoomRepository.findUserIdById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
     }
 
     @Transactional
@@ -156,40 +249,25 @@ public class ChatService {
         chatRoomRepository.save(chatRoom);
     }
 
-    @Transactional
-    public void sendSystemMessage(Long userId, String content) {
-        Event event = getDefaultEvent();
-        ChatRoom chatRoom = chatRoomRepository.findByEventIdAndUserIdAndStatus(
-                event.getId(),
-                userId,
-                ChatRoomStatus.OPEN
-        ).orElse(null);
-
-        if (chatRoom == null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    private void recordMessage(Long chatRoomId, ChatMessage message) {
+        boolean fromStudent = message.getSenderRole() == SenderRole.STUDENT;
+        chatRoomRepository.recordMessage(
+                chatRoomId,
+                message.getMessage(),
+                message.getCreatedAt(),
+                fromStudent ? 1L : 0L,
+                fromStudent ? 0L : 1L
+        );
+    }
 
-            chatRoom = ChatRoom.builder()
-                    .event(event)
-                    .user(user)
-                    .status(ChatRoomStatus.OPEN)
-                    .lastMessage(null)
-                    .build();
-            chatRoom = chatRoomRepository.save(chatRoom);
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_MESSAGE_PAGE_SIZE;
         }
-
-        ChatMessage message = ChatMessage.builder()
-                .event(event)
-                .chatRoom(chatRoom)
-                .senderRole(SenderRole.ADMIN)
-                .message(content)
-                .isRead(false)
-                .type(MessageType.SYSTEM)
-                .build();
-        chatMessageRepository.save(message);
-
-        chatRoom.updateLastMessage(content);
-        chatRoomRepository.save(chatRoom);
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, MAX_MESSAGE_PAGE_SIZE);
     }
 
     private Event getDefaultEvent() {
@@ -197,15 +275,10 @@ public class ChatService {
                 .orElseThrow(() -> new IllegalStateException("기본 이벤트가 존재하지 않습니다."));
     }
 
-    private ChatRoomResponse buildChatRoomResponse(ChatRoom chatRoom) {
-        Long unreadCount = chatMessageRepository.countUnreadMessages(chatRoom.getEvent().getId(), chatRoom.getId());
-        List<ChatMessage> messages = chatMessageRepository.findByEventIdAndChatRoomIdOrderByCreatedAtAsc(
-                chatRoom.getEvent().getId(),
-                chatRoom.getId()
-        );
-        LocalDateTime lastMessageTime = messages.isEmpty()
-                ? chatRoom.getCreatedAt()
-                : messages.get(messages.size() - 1).getCreatedAt();
+    private ChatRoomResponse buildChatRoomResponse(ChatRoom chatRoom, SenderRole viewer) {
+        LocalDateTime lastMessageTime = chatRoom.getLastMessageAt() != null
+                ? chatRoom.getLastMessageAt()
+                : chatRoom.getCreatedAt();
 
         return ChatRoomResponse.builder()
                 .chatRoomId(chatRoom.getId())
@@ -213,20 +286,25 @@ public class ChatService {
                 .userNickname(chatRoom.getUser().getNickname())
                 .status(chatRoom.getStatus())
                 .lastMessage(chatRoom.getLastMessage())
-                .unreadCount(unreadCount)
+                .unreadCount(chatRoom.getUnreadCountFor(viewer))
                 .lastMessageTime(lastMessageTime)
                 .createdAt(chatRoom.getCreatedAt())
                 .updatedAt(chatRoom.getUpdatedAt())
                 .build();
     }
 
-    private ChatMessageResponse buildChatMessageResponse(ChatMessage message) {
+    private ChatMessageResponse buildChatMessageResponse(ChatMessage message, ChatRoom chatRoom) {
+        // 상대방 워터마크 이하이면 읽음 (기존 is_read 플래그도 호환을 위해 반영)
+        SenderRole counterpart = message.getSenderRole() == SenderRole.ADMIN ? SenderRole.STUDENT : SenderRole.ADMIN;
+        boolean isRead = Boolean.TRUE.equals(message.getIsRead())
+                || message.getId() <= chatRoom.getLastReadMessageIdOf(counterpart);
+
         return ChatMessageResponse.builder()
                 .messageId(message.getId())
                 .chatRoomId(message.getChatRoom().getId())
                 .senderRole(message.getSenderRole())
                 .message(message.getMessage())
-                .isRead(message.getIsRead())
+                .isRead(isRead)
                 .type(message.getType())
                 .createdAt(message.getCreatedAt())
                 .build();
@@ -31,7 +31,7 @@ public class DashboardService {
     private final EventRepository eventRepository;
     private final DashboardStatsSnapshotRepository dashboardStatsSnapshotRepository;
 
-    @Cacheable(value = "dashboardStats", key = "@cacheKey.dashboard()")
+    @Cacheable(value = "dashboardStats", key = "@cacheKey.dashboard()", sync = true)
     public DashboardStatsResponse getDashboardStats() {
         Event event = getDefaultEvent();
         Long eventId = event.getId();
@@ -0,0 +1,272 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheInvalidator;
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.EventArchiveResponse;
+import com.example.backend.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료된 이벤트의 웨이팅/채팅 메시지/테이블 배정 이력을 아카이브 테이블로 이동
+ * 행을 애플리케이션 메모리로 읽지 않고, ID 구간 단위로 INSERT ... SELECT 후 DELETE 하는 배치를 반복한다.
+ * (배치마다 별도 트랜잭션이므로 중간에 멈춰도 다시 실행하면 남은 행부터 이어서 처리)
+ * 작업은 전용 스레드 하나에서 순서대로 실행되며, 진행 상황은 노드 메모리에 보관한다.
+ */
+@Slf4j
+@Service
+public class EventArchiveService {
+
+    // FK 참조 순서대로 이동 (배정 이력 → 웨이팅)
+    private static final List<String> ARCHIVE_TABLES = List.of(
+            "table_assignment_history",
+            "chat_messages",
+            "waitings"
+    );
+    private static final String ARCHIVE_SUFFIX = "_archive";
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final ChatSearchIndex chatSearchIndex;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("event-archiver").daemon(true).factory());
+    private final Map<Long, ArchiveJob> jobs = new ConcurrentHashMap<>();
+
+    public EventArchiveService(
+            EventRepository eventRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidator cacheInvalidator,
+            ChatSearchIndex chatSearchIndex,
+            @Value("${app.archive.batch-size:1000}") int batchSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.chatSearchIndex = chatSearchIndex;
+        this.batchSize = batchSize;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 아카이브 요청 (비동기 실행, 현재 상태 반환)
+     */
+    public EventArchiveResponse requestArchive(Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found."));
+        if (!event.isClosed(LocalDate.now())) {
+            throw new IllegalStateException("Only closed events can be archived.");
+        }
+        Long activeWaitings = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waitings WHERE event_id = ? AND status IN (?, ?)",
+                Long.class,
+                eventId,
+                WaitingStatus.WAITING.name(),
+                WaitingStatus.CALLED.name()
+        );
+        if (activeWaitings != null && activeWaitings > 0) {
+            throw new IllegalStateException("Event still has active waitings.");
+        }
+
+        ArchiveJob job = new ArchiveJob(eventId);
+        ArchiveJob current = jobs.merge(eventId, job, (existing, requested) -> existing.isDone() ? requested : existing);
+        if (current != job) {
+            throw new IllegalStateException("Archive is already in progress for this event.");
+        }
+
+        executor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    /**
+     * 아카이브 진행 상황 조회
+     */
+    public EventArchiveResponse getArchiveStatus(Long eventId) {
+        ArchiveJob job = jobs.get(eventId);
+        if (job == null) {
+            throw new IllegalArgumentException("No archive job for this event.");
+        }
+        return job.toResponse();
+    }
+
+    private void run(ArchiveJob job) {
+        job.start();
+        try {
+            for (String table : ARCHIVE_TABLES) {
+                job.progressOf(table).total.set(countRows(table, job.eventId));
+            }
+            // 테이블의 현재 웨이팅 참조를 끊어야 웨이팅 행을 옮길 수 있음 (손님이 없어진 테이블은 빈 테이블로 되돌림)
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update("""
+                    UPDATE tables
+                    SET current_waiting_id = NULL, status = ?, status_changed_at = ?, updated_at = ?
+                    WHERE event_id = ? AND current_waiting_id IS NOT NULL
+                    """,
+                    TableStatus.EMPTY.name(),
+                    now,
+                    now,
+                    job.eventId
+            );
+            for (String table : ARCHIVE_TABLES) {
+                job.currentTable = table;
+                archiveTable(table, job);
+            }
+
+            chatSearchIndex.removeEvent(job.eventId);
+            cacheInvalidator.tablesChanged(job.eventId);
+            cacheInvalidator.waitingsChanged(job.eventId, WaitingStatus.values());
+            job.finish(null);
+            log.info("Event {} archived: {}", job.eventId, job.summary());
+        } catch (RuntimeException e) {
+            log.error("Event {} archive failed at {}", job.eventId, job.currentTable, e);
+            job.finish(e.getMessage());
+        }
+    }
+
+    private void archiveTable(String table, ArchiveJob job) {
+        String columns = String.join(", ", insertableColumns(table).stream().map(column -> "`" + column + "`").toList());
+        String selectIdsSql = "SELECT id FROM " + table + " WHERE event_id = ? AND id > ? ORDER BY id LIMIT ?";
+        String copySql = "INSERT INTO " + table + ARCHIVE_SUFFIX + " (" + columns + ") "
+                + "SELECT " + columns + " FROM " + table + " WHERE event_id = ? AND id > ? AND id <= ?";
+        String deleteSql = "DELETE FROM " + table + " WHERE event_id = ? AND id > ? AND id <= ?";
+
+        AtomicLong archived = job.progressOf(table).archived;
+        long lastId = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            // 이번 배치의 ID 구간만 조회 (행 데이터는 DB 안에서 복사)
+            List<Long> ids = jdbcTemplate.queryForList(selectIdsSql, Long.class, job.eventId, lastId, batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            long fromId = lastId;
+            long toId = ids.get(ids.size() - 1);
+            Integer moved = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(copySql, job.eventId, fromId, toId);
+                return jdbcTemplate.update(deleteSql, job.eventId, fromId, toId);
+            });
+            archived.addAndGet(moved != null ? moved : 0);
+            lastId = toId;
+
+            if (ids.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 생성 컬럼(예: table_assignment_history.active_guard)은 INSERT 대상에서 제외
+    // (extra의 DEFAULT_GENERATED는 기본값이 식인 일반 컬럼이므로 created_at/updated_at 등은 그대로 복사)
+    private List<String> insertableColumns(String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT column_name
+                FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND extra NOT LIKE '%VIRTUAL GENERATED%'
+                  AND extra NOT LIKE '%STORED GENERATED%'
+                ORDER BY ordinal_position
+                """, String.class, table);
+    }
+
+    private long countRows(String table, Long eventId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Long.class, eventId);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 아카이브 작업 진행 상황 (작업 스레드가 갱신하고 조회 요청이 읽음)
+     */
+    private static final class ArchiveJob {
+
+        private final Long eventId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final Map<String, TableProgress> tables = new LinkedHashMap<>();
+        private volatile String status = "QUEUED";
+        private volatile String currentTable;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String errorMessage;
+
+        private ArchiveJob(Long eventId) {
+            this.eventId = eventId;
+            ARCHIVE_TABLES.forEach(table -> tables.put(table, new TableProgress()));
+        }
+
+        TableProgress progressOf(String table) {
+            return tables.get(table);
+        }
+
+        boolean isDone() {
+            return "COMPLETED".equals(status) || "FAILED".equals(status);
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = "RUNNING";
+        }
+
+        void finish(String error) {
+            currentTable = null;
+            errorMessage = error;
+            finishedAt = LocalDateTime.now();
+            status = error == null ? "COMPLETED" : "FAILED";
+        }
+
+        String summary() {
+            StringBuilder summary = new StringBuilder();
+            tables.forEach((table, progress) -> summary.append(table).append('=').append(progress.archived.get()).append(' '));
+            return summary.toString().trim();
+        }
+
+        EventArchiveResponse toResponse() {
+            return EventArchiveResponse.builder()
+                    .eventId(eventId)
+                    .status(status)
+                    .currentTable(currentTable)
+                    .tables(tables.entrySet().stream()
+                            .map(entry -> EventArchiveResponse.TableProgress.builder()
+                                    .table(entry.getKey())
+                                    .totalRows(entry.getValue().total.get())
+                                    .archivedRows(entry.getValue().archived.get())
+                                    .build())
+                            .toList())
+                    .requestedAt(requestedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+
+    private static final class TableProgress {
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong archived = new AtomicLong();
+    }
+}
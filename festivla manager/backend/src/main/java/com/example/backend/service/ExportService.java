@@ -0,0 +1,281 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.enums.ExportFormat;
+import com.example.backend.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운영 데이터 내보내기 (CSV / NDJSON)
+ * JPA 엔티티 목록 대신 forward-only JDBC 결과 집합을 한 행씩 읽어 바로 출력 스트림에 쓰므로,
+ * 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    // MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 행 단위로 스트리밍 (그 외에는 전체를 메모리에 적재)
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private static final String WAITINGS_SQL = """
+            SELECT w.id AS waiting_id,
+                   w.waiting_number,
+                   w.business_date,
+                   w.status,
+                   w.head_count,
+                   w.user_id,
+                   u.name AS user_name,
+                   u.phone_number,
+                   w.created_at,
+                   w.call_time,
+                   w.updated_at AS status_changed_at
+            FROM waitings w
+            JOIN users u ON u.id = w.user_id
+            WHERE w.event_id = ?
+            """;
+    private static final String TABLE_ASSIGNMENTS_SQL = """
+            SELECT h.id AS assignment_id,
+                   t.table_number,
+                   t.capacity,
+                   h.waiting_id,
+                   w.waiting_number,
+                   w.head_count,
+                   w.call_time,
+                   h.started_at,
+                   h.ended_at,
+                   TIMESTAMPDIFF(SECOND, h.started_at, h.ended_at) AS dwell_seconds
+            FROM table_assignment_history h
+            JOIN tables t ON t.id = h.table_id
+            JOIN waitings w ON w.id = h.waiting_id
+            WHERE h.event_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRepository eventRepository;
+
+    /**
+     * 이벤트 ID (없으면 기본 이벤트), 컨트롤러가 파일명 생성과 검증에 사용
+     */
+    public Long resolveEventId(Long eventId) {
+        if (eventId != null) {
+            return eventRepository.findById(eventId)
+                    .map(Event::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Event not found."));
+        }
+        return eventRepository.findFirstByOrderByIdAsc()
+                .map(Event::getId)
+                .orElseThrow(() -> new IllegalStateException("Default event not found."));
+    }
+
+    /**
+     * 웨이팅 내보내기 (호출 시각, 마지막 상태 변경 시각 포함)
+     */
+    public void exportWaitings(Long eventId, LocalDate businessDate, ExportFormat format, OutputStream out) {
+        List<Object> params = new ArrayList<>(List.of(eventId));
+        String sql = WAITINGS_SQL;
+        if (businessDate != null) {
+            sql += "  AND w.business_date = ?\n";
+            params.add(businessDate);
+        }
+        stream(sql + "ORDER BY w.id", params, format, out);
+    }
+
+    /**
+     * 테이블 배정 이력 내보내기 (착석~퇴석 체류 시간 포함, 이용 중이면 비어 있음)
+     */
+    public void exportTableAssignments(Long eventId, LocalDate businessDate, ExportFormat format, OutputStream out) {
+        List<Object> params = new ArrayList<>(List.of(eventId));
+        String sql = TABLE_ASSIGNMENTS_SQL;
+        if (businessDate != null) {
+            sql += "  AND w.business_date = ?\n";
+            params.add(businessDate);
+        }
+        stream(sql + "ORDER BY h.id", params, format, out);
+    }
+
+    private void stream(String sql, List<Object> params, ExportFormat format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowFormatter formatter = format == ExportFormat.CSV ? new CsvRowFormatter() : new NdjsonRowFormatter();
+
+        // 행 단위 콜백 대신 결과 집합을 직접 받아, 행이 없어도 메타데이터로 헤더를 쓸 수 있게 한다
+        Long rowCount = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    for (int i = 0; i < params.size(); i++) {
+                        statement.setObject(i + 1, params.get(i));
+                    }
+                    return statement;
+                },
+                (ResultSetExtractor<Long>) resultSet -> {
+                    try {
+                        formatter.begin(writer, resultSet.getMetaData());
+                        long rows = 0;
+                        while (resultSet.next()) {
+                            formatter.writeRow(writer, resultSet);
+                            rows++;
+                        }
+                        writer.flush();
+                        return rows;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+        );
+        log.info("Export finished: format={}, rows={}", format, rowCount);
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+
+    private interface RowFormatter {
+
+        /**
+         * 첫 행 직전에 한 번 호출 (행이 없어도 호출되므로 CSV는 헤더만 남는다)
+         */
+        void begin(Writer writer, ResultSetMetaData metaData) throws IOException, SQLException;
+
+        void writeRow(Writer writer, ResultSet resultSet) throws IOException, SQLException;
+    }
+
+    /**
+     * CSV: 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM + 헤더, 값은 RFC 4180 규칙으로 따옴표 처리
+     */
+    private static final class CsvRowFormatter implements RowFormatter {
+
+        private int columnCount;
+
+        @Override
+        public void begin(Writer writer, ResultSetMetaData metaData) throws IOException, SQLException {
+            writer.write(UTF8_BOM);
+            columnCount = metaData.getColumnCount();
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeValue(writer, metaData.getColumnLabel(i));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, ResultSet resultSet) throws IOException, SQLException {
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = normalize(resultSet.getObject(i));
+                if (value != null) {
+                    writeValue(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static void writeValue(Writer writer, String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * NDJSON: 한 행을 컬럼 라벨을 키로 하는 JSON 객체 한 줄로 출력
+     */
+    private static final class NdjsonRowFormatter implements RowFormatter {
+
+        private String[] keys;
+
+        @Override
+        public void begin(Writer writer, ResultSetMetaData metaData) throws IOException, SQLException {
+            keys = new String[metaData.getColumnCount()];
+            for (int i = 0; i < keys.length; i++) {
+                StringBuilder key = new StringBuilder();
+                appendJsonString(key, metaData.getColumnLabel(i + 1));
+                keys[i] = key.append(':').toString();
+            }
+        }
+
+        @Override
+        public void writeRow(Writer writer, ResultSet resultSet) throws IOException, SQLException {
+            StringBuilder line = new StringBuilder(256).append('{');
+            for (int i = 0; i < keys.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(keys[i]);
+                Object value = normalize(resultSet.getObject(i + 1));
+                if (value == null) {
+                    line.append("null");
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    line.append(value);
+                } else {
+                    appendJsonString(line, value.toString());
+                }
+            }
+            writer.append(line.append("}\n"));
+        }
+
+        private static void appendJsonString(StringBuilder out, String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+    }
+}
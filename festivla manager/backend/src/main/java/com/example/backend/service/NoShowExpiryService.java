@@ -0,0 +1,182 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheInvalidator;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.WebSocketMessage;
+import com.example.backend.event.WaitingCallEvent;
+import com.example.backend.handler.WaitingWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 호출 후 입장하지 않은(노쇼) 웨이팅 자동 만료
+ * 호출 시 마감 시각을 타이밍 휠(TimerWheel)에 등록하고, 틱마다 마감된 타이머만 처리한다. (테이블 주기 스캔 없음)
+ * - 한 틱에 만료된 웨이팅은 UPDATE 한 번으로 일괄 처리 (CANCELED, 또는 재등록 모드면 패널티 순번으로 WAITING)
+ * - 그 사이 입장/취소된 웨이팅은 CALLED 조건에서 걸러지므로 타이머를 따로 취소하지 않고, 재호출된 웨이팅은 새 마감으로 다시 등록
+ * - 타이머는 노드 메모리에만 있으므로 시작 시 DB의 CALLED 웨이팅을 다시 등록
+ */
+@Slf4j
+@Service
+public class NoShowExpiryService {
+
+    private static final String EXPIRED_MESSAGE = "You did not arrive in time, so your waiting was canceled.";
+    private static final String REQUEUED_MESSAGE = "You did not arrive in time and were moved back in the queue.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final WaitingQueueService waitingQueueService;
+    private final WaitingWebSocketHandler waitingWebSocketHandler;
+    private final SystemMessageWriter systemMessageWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration grace;
+    private final boolean requeue;
+    private final long penaltyPositions;
+    private final TimerWheel<Long> timers;
+
+    public NoShowExpiryService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidator cacheInvalidator,
+            WaitingQueueService waitingQueueService,
+            WaitingWebSocketHandler waitingWebSocketHandler,
+            SystemMessageWriter systemMessageWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.waiting.no-show.enabled:true}") boolean enabled,
+            @Value("${app.waiting.no-show.grace:5m}") Duration grace,
+            @Value("${app.waiting.no-show.tick:1s}") Duration tick,
+            @Value("${app.waiting.no-show.requeue:false}") boolean requeue,
+            @Value("${app.waiting.no-show.penalty-positions:3}") long penaltyPositions
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.waitingQueueService = waitingQueueService;
+        this.waitingWebSocketHandler = waitingWebSocketHandler;
+        this.systemMessageWriter = systemMessageWriter;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.grace = grace;
+        this.requeue = requeue;
+        this.penaltyPositions = penaltyPositions;
+        this.timers = new TimerWheel<>("no-show-timer", tick, this::expire);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            timers.start(this::recoverCalledWaitings);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        timers.stop();
+    }
+
+    /**
+     * 호출된 웨이팅의 노쇼 마감 등록 (트랜잭션 안이면 커밋 후 등록)
+     */
+    public void schedule(Long waitingId, LocalDateTime callTime) {
+        if (enabled) {
+            timers.scheduleAfterCommit(waitingId, callTime.plus(grace));
+        }
+    }
+
+    private void expire(List<Long> waitingIds) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(grace);
+        WaitingStatus newStatus = requeue ? WaitingStatus.WAITING : WaitingStatus.CANCELED;
+        List<ExpiredWaiting> expired = transactionTemplate.execute(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", waitingIds)
+                    .addValue("called", WaitingStatus.CALLED.name());
+            // 아직 CALLED인 행만 잠금 (그 사이 입장/취소된 웨이팅 제외)
+            List<ExpiredWaiting> called = namedParameterJdbcTemplate.query("""
+                    SELECT id, event_id, user_id, waiting_number, call_time
+                    FROM waitings
+                    WHERE id IN (:ids) AND status = :called AND call_time IS NOT NULL
+                    FOR UPDATE
+                    """, params, (rs, rowNum) -> new ExpiredWaiting(
+                    rs.getLong("id"), rs.getLong("event_id"), rs.getLong("user_id"), rs.getLong("waiting_number"),
+                    rs.getTimestamp("call_time").toLocalDateTime()));
+
+            // 재호출되어 마감이 아직 오지 않은 웨이팅은 만료하지 않고 새 마감으로 다시 등록 (타이머를 잃지 않게 함)
+            List<ExpiredWaiting> rows = new ArrayList<>(called.size());
+            for (ExpiredWaiting row : called) {
+                if (row.callTime().isAfter(cutoff)) {
+                    timers.scheduleIfAbsent(row.waitingId(), row.callTime().plus(grace));
+                } else {
+                    rows.add(row);
+                }
+            }
+            if (rows.isEmpty()) {
+                return rows;
+            }
+
+            MapSqlParameterSource updateParams = new MapSqlParameterSource()
+                    .addValue("ids", rows.stream().map(ExpiredWaiting::waitingId).toList())
+                    .addValue("status", newStatus.name())
+                    .addValue("now", Timestamp.valueOf(now));
+            namedParameterJdbcTemplate.update(requeue
+                    ? "UPDATE waitings SET status = :status, call_time = NULL, updated_at = :now WHERE id IN (:ids)"
+                    : "UPDATE waitings SET status = :status, updated_at = :now WHERE id IN (:ids)", updateParams);
+
+            Set<Long> eventIds = new LinkedHashSet<>();
+            rows.forEach(row -> eventIds.add(row.eventId()));
+            eventIds.forEach(eventId -> cacheInvalidator.waitingsChanged(eventId, WaitingStatus.CALLED, newStatus));
+            rows.forEach(row -> systemMessageWriter.enqueue(
+                    row.eventId(), row.userId(), requeue ? REQUEUED_MESSAGE : EXPIRED_MESSAGE));
+            return rows;
+        });
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+
+        for (ExpiredWaiting row : expired) {
+            if (requeue) {
+                waitingQueueService.addAfter(row.waitingId(), penaltyPositions, row.waitingNumber());
+            }
+            waitingWebSocketHandler.sendToUser(row.userId(), WebSocketMessage.noShow(row.waitingId(), requeue));
+            eventPublisher.publishEvent(new WaitingCallEvent(row.waitingId(), row.callTime(), WaitingCallEvent.Outcome.NO_SHOW));
+        }
+        log.info("No-show expired {} waitings (requeue={}).", expired.size(), requeue);
+    }
+
+    private void recoverCalledWaitings() {
+        jdbcTemplate.query(
+                "SELECT id, call_time FROM waitings WHERE status = ? AND call_time IS NOT NULL",
+                (RowCallbackHandler) rs -> timers.schedule(
+                        rs.getLong("id"), rs.getTimestamp("call_time").toLocalDateTime().plus(grace)),
+                WaitingStatus.CALLED.name()
+        );
+        if (timers.size() > 0) {
+            log.info("Restored {} no-show timers.", timers.size());
+        }
+    }
+
+    private record ExpiredWaiting(Long waitingId, Long eventId, Long userId, Long waitingNumber, LocalDateTime callTime) {
+    }
+}
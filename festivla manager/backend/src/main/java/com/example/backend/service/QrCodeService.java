@@ -1,35 +1,125 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheInvalidator;
+import com.example.backend.domain.entity.Table;
 import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.event.QrArrivedEvent;
+import com.example.backend.event.WaitingCallEvent;
 import com.example.backend.repository.WaitingRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.repository.projection.QrArrivalRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * QR 코드 생성 서비스
- * Google Charts API를 사용하여 QR 코드 이미지 URL 생성
+ * QR 코드 생성/검증 서비스
+ * 기본은 서버 키로 서명한 입장권(QrTicketService)을 발급하여, 검증 시 DB는 마지막 입장 완료 전환에만 사용한다.
+ * 기존 웨이팅별 TOTP 형식(waitingId:totpCode)도 계속 검증한다.
+ *
+ * 입장 처리에 성공한 QR 데이터(웨이팅 ID와 시간 스텝 포함)는 유효 시간 동안 캐시하여,
+ * 같은 코드를 다시 스캔하면 서명 검증/DB 작업 없이 처음 결과를 그대로 돌려준다.
+ * 여러 스캐너가 동시에 같은 코드를 읽으면 한 요청만 검증하고 나머지는 그 결과를 기다려 받는다. (캐시 잠금 밖에서 트랜잭션 실행)
+ * 이미 입장 처리된 웨이팅의 다른 코드(다음 시간 스텝 등)는 성공이 아니라 '이미 입장' 결과로 구분한다.
+ *
+ * 좌석 자동 배정 모드(verifyAndSeat)는 입장 처리와 같은 트랜잭션에서 인원수에 맞는 빈 테이블까지 배정한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class QrCodeService {
 
+    private static final String FORMAT_TOTP = "totp";
+    private static final String SEAT_KEY_PREFIX = "seat:";
+    private static final Duration IMAGE_CACHE_TTL = Duration.ofSeconds(45);
+
     private final TotpService totpService;
+    private final QrTicketService qrTicketService;
     private final WaitingRepository waitingRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final WaitingService waitingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean issueSignedTickets;
+    private final Cache<String, QrScanResult> completedScans;
+    private final Map<String, CompletableFuture<QrScanResult>> inFlightScans = new ConcurrentHashMap<>();
+    private final QrImageRenderer qrImageRenderer;
+    private final Cache<QrImageKey, QrCodeImage> renderedImages;
+    private final Cache<QrImageKey, String> issuedQrData;
+
+    public QrCodeService(
+            TotpService totpService,
+            QrTicketService qrTicketService,
+            QrImageRenderer qrImageRenderer,
+            WaitingRepository waitingRepository,
+            CacheInvalidator cacheInvalidator,
+            WaitingService waitingService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.qr.format:signed}") String format,
+            @Value("${app.qr.scan-cache.ttl:2m}") Duration scanCacheTtl,
+            @Value("${app.qr.scan-cache.maximum-size:10000}") long scanCacheMaximumSize,
+            @Value("${app.qr.image-cache.maximum-size:2000}") long imageCacheMaximumSize
+    ) {
+        this.totpService = totpService;
+        this.qrTicketService = qrTicketService;
+        this.waitingRepository = waitingRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.waitingService = waitingService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.issueSignedTickets = !FORMAT_TOTP.equalsIgnoreCase(format);
+        // 코드 유효 시간(±1 스텝, 약 90초)보다 길게 보관
+        this.completedScans = Caffeine.newBuilder()
+                .maximumSize(scanCacheMaximumSize)
+                .expireAfterWrite(scanCacheTtl)
+                .build();
+        this.qrImageRenderer = qrImageRenderer;
+        // 시간 스텝이 지나면 쓰이지 않으므로 한 스텝 남짓만 보관
+        this.renderedImages = Caffeine.newBuilder()
+                .maximumSize(imageCacheMaximumSize)
+                .expireAfterWrite(IMAGE_CACHE_TTL)
+                .build();
+        this.issuedQrData = Caffeine.newBuilder()
+                .maximumSize(imageCacheMaximumSize)
+                .expireAfterWrite(IMAGE_CACHE_TTL)
+                .build();
+    }
 
     /**
-     * QR 코드 데이터 생성 (TOTP 코드 포함)
-     * 형식: waitingId:totpCode
+     * QR 코드 데이터 생성
+     * 형식: T1.{waitingId}.{statusEpoch}.{timeStep}.{signature} (app.qr.format=totp 이면 waitingId:totpCode)
      */
+    @Transactional
     public String generateQrData(Long waitingId) {
+        long timeStep = QrTicketService.currentTimeStep();
+        String qrData = generateQrData(waitingId, timeStep);
+        // 이어지는 이미지 요청은 이 값으로 렌더링 (같은 스텝 안에서 웨이팅을 다시 조회하지 않음)
+        issuedQrData.put(new QrImageKey(waitingId, timeStep), qrData);
+        return qrData;
+    }
+
+    private String generateQrData(Long waitingId, long timeStep) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("웨이팅을 찾을 수 없습니다."));
 
+        if (issueSignedTickets) {
+            // 서명 입장권은 조회만 하고 DB에 쓰지 않음
+            return qrTicketService.issue(waitingId, QrTicketService.statusEpochOf(waiting.getCallTime()), timeStep);
+        }
+
         // Secret이 없으면 생성
         if (waiting.getTotpSecret() == null || waiting.getTotpSecret().isEmpty()) {
             String secret = totpService.generateSecret();
@@ -38,75 +128,252 @@ public class QrCodeService {
         }
 
         // 현재 TOTP 코드 생성
-        String totpCode = totpService.generateCode(waiting.getTotpSecret());
+        String totpCode = totpService.generateCode(waiting.getTotpSecret(), timeStep);
 
         // QR 데이터 형식: waitingId:totpCode
         return waitingId + ":" + totpCode;
     }
 
     /**
-     * QR 코드 이미지 URL 생성 (Google Charts API)
+     * QR 코드 이미지 경로 (서버에서 직접 렌더링, /api/qr/image/{waitingId})
      */
-    public String generateQrCodeUrl(Long waitingId) {
-        String qrData = generateQrData(waitingId);
-        String encodedData = URLEncoder.encode(qrData, StandardCharsets.UTF_8);
-        
-        // Google Charts API를 사용한 QR 코드 URL
-        return String.format(
-                "https://api.qrserver.com/v1/create-qr-code/?size=300x300&data=%s",
-                encodedData
-        );
+    public String generateQrCodeImagePath(Long waitingId) {
+        return "/api/qr/image/" + waitingId;
     }
 
     /**
-     * QR 코드 검증
-     * @param qrData 스캔된 QR 코드 데이터 (형식: waitingId:totpCode)
-     * @return 검증 성공 시 Waiting 엔티티, 실패 시 null
+     * 현재 QR 코드 이미지 (SVG)
+     * 같은 스텝에 generateQrData로 발급한 데이터가 있으면 DB 조회 없이 그 값으로 렌더링하고 (없으면 한 번 조회해 보관),
+     * 같은 (웨이팅, 시간 스텝)의 같은 데이터면 렌더링 결과를 재사용
+     * 캐시 적중 시 커넥션도 잡지 않도록 트랜잭션 없이 실행 (미스일 때만 리포지토리 조회)
      */
-    @Transactional
-    public Waiting verifyQrCode(String qrData) {
-        try {
-            String[] parts = qrData.split(":");
-            if (parts.length != 2) {
-                log.warn("잘못된 QR 코드 형식: {}", qrData);
-                return null;
-            }
+    public QrCodeImage getQrCodeImage(Long waitingId) {
+        long timeStep = QrTicketService.currentTimeStep();
+        QrImageKey key = new QrImageKey(waitingId, timeStep);
+        String qrData = issuedQrData.get(key, k -> generateQrData(waitingId, timeStep));
 
-            Long waitingId = Long.parseLong(parts[0]);
-            String totpCode = parts[1];
+        QrCodeImage cached = renderedImages.getIfPresent(key);
+        if (cached != null && cached.qrData().equals(qrData)) {
+            return cached;
+        }
+        // 같은 스텝 안에서 다시 호출되어 새로 발급된 데이터면 새로 렌더링해 덮어씀
+        QrCodeImage rendered = new QrCodeImage(qrData, qrImageRenderer.renderSvg(qrData));
+        renderedImages.put(key, rendered);
+        return rendered;
+    }
 
-            Waiting waiting = waitingRepository.findById(waitingId)
-                    .orElse(null);
+    /**
+     * QR 코드 검증 후 입장 완료 처리
+     * @param qrData 스캔된 QR 코드 데이터 (서명 입장권 또는 waitingId:totpCode)
+     * @return 검증 성공 시 입장 처리 결과 (이미 입장 처리된 웨이팅이면 alreadyArrived), 실패 시 null
+     */
+    public QrScanResult verifyQrCode(String qrData) {
+        return verifyQrCode(qrData, QrTicketService.currentTimeStep());
+    }
 
-            if (waiting == null) {
-                log.warn("웨이팅을 찾을 수 없음: {}", waitingId);
-                return null;
-            }
+    /**
+     * 기준 시간 스텝으로 QR 코드 검증 후 입장 완료 처리 (오프라인으로 모아둔 스캔은 스캔 시각의 스텝으로 검증)
+     */
+    public QrScanResult verifyQrCode(String qrData, long timeStep) {
+        return scan(qrData, timeStep, false);
+    }
 
-            if (waiting.getTotpSecret() == null || waiting.getTotpSecret().isEmpty()) {
-                log.warn("TOTP Secret이 없음: {}", waitingId);
-                return null;
+    /**
+     * QR 코드 검증 후 입장 완료 처리와 좌석 배정을 한 트랜잭션에서 수행
+     * @return 검증 실패 시 null, 빈 테이블이 없으면 테이블 정보 없이 입장 결과만 반환
+     */
+    public QrScanResult verifyAndSeat(String qrData) {
+        return verifyAndSeat(qrData, QrTicketService.currentTimeStep());
+    }
+
+    /**
+     * 기준 시간 스텝으로 QR 코드 검증 후 입장 완료 처리와 좌석 배정
+     */
+    public QrScanResult verifyAndSeat(String qrData, long timeStep) {
+        return scan(qrData, timeStep, true);
+    }
+
+    private QrScanResult scan(String qrData, long timeStep, boolean seat) {
+        String key = seat ? SEAT_KEY_PREFIX + qrData : qrData;
+        try {
+            QrScanResult completed = completedScans.getIfPresent(key);
+            if (completed != null) {
+                return retrySeatIfNeeded(key, completed, seat);
             }
 
-            // TOTP 코드 검증
-            boolean isValid = totpService.verifyCode(waiting.getTotpSecret(), totpCode);
-            if (!isValid) {
-                log.warn("TOTP 코드 검증 실패: waitingId={}, code={}", waitingId, totpCode);
-                return null;
+            // 같은 코드를 처리 중인 요청이 있으면 그 결과를 기다림
+            CompletableFuture<QrScanResult> flight = new CompletableFuture<>();
+            CompletableFuture<QrScanResult> running = inFlightScans.putIfAbsent(key, flight);
+            if (running != null) {
+                return running.join();
+            }
+            try {
+                // 조회와 등록 사이에 먼저 끝난 요청의 결과가 캐시됐을 수 있음
+                completed = completedScans.getIfPresent(key);
+                QrScanResult result = completed != null
+                        ? completed
+                        : transactionTemplate.execute(status -> verifyAndArrive(qrData, timeStep, seat));
+                // 실패(null)와 이미 입장 결과는 캐시하지 않고, 입장 처리는 커밋된 뒤에만 캐시됨
+                if (completed == null && result != null && !result.alreadyArrived()) {
+                    completedScans.put(key, result);
+                }
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightScans.remove(key, flight);
             }
+        } catch (Exception e) {
+            log.error("QR 코드 검증 중 오류 발생", e);
+            return null;
+        }
+    }
+
+    // 같은 코드로 입장했지만 빈 테이블이 없었던 결과는 다시 스캔하면 배정만 재시도
+    private QrScanResult retrySeatIfNeeded(String key, QrScanResult completed, boolean seat) {
+        if (!seat || completed.tableId() != null) {
+            return completed;
+        }
+        Table table = transactionTemplate.execute(status -> waitingService.seatAtBestFitTable(completed.arrival().waitingId()));
+        if (table == null) {
+            return completed;
+        }
+        QrScanResult seated = QrScanResult.arrived(completed.arrival(), table);
+        completedScans.put(key, seated);
+        return seated;
+    }
+
+    /**
+     * 직접 입력한 단축 코드로 찾은 웨이팅을 입장 완료 처리 (QR 스캔과 같은 조건부 전환)
+     * @param callTime 코드를 만들 때 사용한 호출 시각
+     * @return 입장 처리 결과 (이미 입장 처리된 웨이팅이면 alreadyArrived), 호출 상태가 아니면 null
+     */
+    public QrScanResult confirmArrival(Long waitingId, LocalDateTime callTime) {
+        return transactionTemplate.execute(status -> arrive(waitingId, callTime));
+    }
 
-            // 웨이팅 상태 확인 (CALLED 상태만 입장 가능)
-            if (waiting.getStatus() != com.example.backend.domain.enums.WaitingStatus.CALLED) {
-                log.warn("입장 가능한 상태가 아님: waitingId={}, status={}", waitingId, waiting.getStatus());
+    private QrScanResult verifyAndArrive(String qrData, long timeStep, boolean seat) {
+        QrScanResult result = qrTicketService.isTicket(qrData)
+                ? verifyTicket(qrData, timeStep)
+                : verifyTotp(qrData, timeStep);
+        if (!seat || result == null || result.alreadyArrived()) {
+            return result;
+        }
+        return QrScanResult.arrived(result.arrival(), waitingService.seatAtBestFitTable(result.arrival().waitingId()));
+    }
+
+    private QrScanResult verifyTicket(String qrData, long timeStep) {
+        // 서명/시간 검증은 메모리에서만 수행
+        QrTicketService.TicketClaims claims = qrTicketService.verify(qrData, timeStep);
+        if (claims == null) {
+            log.warn("QR 입장권 검증 실패");
+            return null;
+        }
+
+        return arrive(claims.waitingId(), QrTicketService.callTimeOf(claims.statusEpoch()));
+    }
+
+    /**
+     * 호출 상태 확인과 입장 완료 전환을 조건부 UPDATE 한 번으로 처리 (호출 시각은 초 단위로 비교)
+     * 이미 같은 호출로 입장 처리된 웨이팅이면 (다음 시간 스텝 코드 등) 새 입장이 아니라 alreadyArrived 결과를 반환
+     * 같은 코드를 다시 스캔한 경우는 이 메서드까지 오지 않고 scan()의 캐시된 결과로 응답한다.
+     */
+    private QrScanResult arrive(Long waitingId, LocalDateTime callTime) {
+        LocalDateTime callTimeFrom = callTime.truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime callTimeTo = callTimeFrom.plusSeconds(1);
+        int updated = waitingRepository.markArrivedIfCalled(
+                waitingId,
+                callTimeFrom,
+                callTimeTo,
+                WaitingStatus.CALLED,
+                WaitingStatus.ARRIVED,
+                LocalDateTime.now()
+        );
+        if (updated == 0) {
+            QrArrivalRow alreadyArrived = waitingRepository
+                    .findQrArrivalRowByStatus(waitingId, WaitingStatus.ARRIVED, callTimeFrom, callTimeTo)
+                    .orElse(null);
+            if (alreadyArrived == null) {
+                log.warn("입장 가능한 상태가 아님: waitingId={}", waitingId);
                 return null;
             }
+            log.info("이미 입장 처리된 웨이팅: waitingId={}", waitingId);
+            return QrScanResult.alreadyArrived(alreadyArrived);
+        }
 
-            // QR 스캔 완료 시 즉시 입장 완료 처리
-            waiting.arrive();
-            return waitingRepository.save(waiting);
-        } catch (Exception e) {
-            log.error("QR 코드 검증 중 오류 발생", e);
+        QrArrivalRow arrived = waitingRepository.findQrArrivalRowById(waitingId)
+                .orElseThrow(() -> new IllegalStateException("웨이팅을 찾을 수 없습니다."));
+        cacheInvalidator.waitingsChanged(arrived.eventId(), WaitingStatus.CALLED, WaitingStatus.ARRIVED);
+        eventPublisher.publishEvent(new QrArrivedEvent(arrived));
+        eventPublisher.publishEvent(new WaitingCallEvent(waitingId, callTime, WaitingCallEvent.Outcome.ARRIVED));
+        return QrScanResult.arrived(arrived, null);
+    }
+
+    private QrScanResult verifyTotp(String qrData, long timeStep) {
+        String[] parts = qrData.split(":");
+        if (parts.length != 2) {
+            log.warn("잘못된 QR 코드 형식: {}", qrData);
+            return null;
+        }
+
+        Long waitingId = Long.parseLong(parts[0]);
+        String totpCode = parts[1];
+
+        Waiting waiting = waitingRepository.findById(waitingId)
+                .orElse(null);
+
+        if (waiting == null) {
+            log.warn("웨이팅을 찾을 수 없음: {}", waitingId);
+            return null;
+        }
+
+        if (waiting.getTotpSecret() == null || waiting.getTotpSecret().isEmpty()) {
+            log.warn("TOTP Secret이 없음: {}", waitingId);
+            return null;
+        }
+
+        // TOTP 코드 검증
+        boolean isValid = totpService.verifyCode(waiting.getTotpSecret(), totpCode, timeStep);
+        if (!isValid) {
+            log.warn("TOTP 코드 검증 실패: waitingId={}, code={}", waitingId, totpCode);
             return null;
         }
+
+        // 웨이팅 상태 확인 (호출된 적이 있어야 입장 가능)
+        if (waiting.getCallTime() == null) {
+            log.warn("입장 가능한 상태가 아님: waitingId={}, status={}", waitingId, waiting.getStatus());
+            return null;
+        }
+
+        // QR 스캔 완료 시 즉시 입장 완료 처리 (서명 입장권과 같은 조건부 전환)
+        return arrive(waitingId, waiting.getCallTime());
+    }
+
+    /**
+     * 렌더링된 QR 이미지 (SVG 바이트와 원본 데이터)
+     */
+    public record QrCodeImage(String qrData, byte[] svg) {
+    }
+
+    private record QrImageKey(Long waitingId, long timeStep) {
+    }
+
+    /**
+     * QR 스캔 처리 결과 (좌석 자동 배정 모드에서는 배정된 테이블 포함)
+     * @param alreadyArrived 이번 스캔이 아니라 이전에 다른 코드로 이미 입장 처리된 웨이팅
+     */
+    public record QrScanResult(QrArrivalRow arrival, boolean alreadyArrived, Long tableId, Integer tableNumber) {
+
+        static QrScanResult arrived(QrArrivalRow arrival, Table table) {
+            return table != null
+                    ? new QrScanResult(arrival, false, table.getId(), table.getTableNumber())
+                    : new QrScanResult(arrival, false, null, null);
+        }
+
+        static QrScanResult alreadyArrived(QrArrivalRow arrival) {
+            return new QrScanResult(arrival, true, null, null);
+        }
     }
 }
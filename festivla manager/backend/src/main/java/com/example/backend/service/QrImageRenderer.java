@@ -0,0 +1,69 @@
+package com.example.backend.service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * QR 코드를 서버 안에서 SVG 이미지로 렌더링 (외부 QR 이미지 API 호출 없음)
+ * 모듈 1개를 SVG 좌표 1로 두고, 행마다 이어진 검은 모듈을 사각형 경로 하나로 합쳐 크기를 줄인다.
+ */
+@Component
+public class QrImageRenderer {
+
+    public static final String CONTENT_TYPE = "image/svg+xml";
+
+    private static final int QUIET_ZONE_MODULES = 4;
+    private static final Map<EncodeHintType, Object> HINTS = Map.of(
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M,
+            EncodeHintType.MARGIN, QUIET_ZONE_MODULES,
+            EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name()
+    );
+
+    /**
+     * QR 데이터를 SVG 바이트로 렌더링
+     */
+    public byte[] renderSvg(String qrData) {
+        BitMatrix matrix;
+        try {
+            // 크기 0 요청 시 모듈당 1픽셀(조용한 영역 포함) 행렬을 받음
+            matrix = new QRCodeWriter().encode(qrData, BarcodeFormat.QR_CODE, 0, 0, HINTS);
+        } catch (WriterException e) {
+            throw new IllegalStateException("QR 코드 이미지 생성에 실패했습니다.", e);
+        }
+
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        StringBuilder svg = new StringBuilder(4096)
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+                .append(width).append(' ').append(height)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < width && matrix.get(x, y)) {
+                    x++;
+                }
+                svg.append('M').append(start).append(' ').append(y)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+
+        return svg.append("\"/></svg>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 서버 키로 서명한 QR 입장권 발급/검증
+ * 형식: T1.{waitingId}.{statusEpoch}.{timeStep}.{signature}
+ * - statusEpoch: 호출 시각(epoch 초), 다시 호출되면 값이 바뀌어 이전 입장권은 무효가 됨
+ * - timeStep: 30초 단위 시간 스텝, 검증 시 ±1 스텝 허용
+ * - signature: HMAC-SHA256(serverKey, "{waitingId}.{statusEpoch}.{timeStep}") 앞 16바이트 (Base64 URL)
+ *
+ * 웨이팅별 secret을 DB에서 읽을 필요 없이 메모리에서만 검증할 수 있어, 이후 스캐너 쪽으로 검증을 옮길 수도 있다.
+ * 화면을 스캔할 수 없을 때 직접 입력하는 6자리 단축 코드도 같은 키로 만든다 (ShortCodeIndex).
+ * app.qr.format=signed 인데 app.qr.ticket-secret 이 비어 있으면 dev/local/test 프로필에서만 임시 키로 동작하고,
+ * 그 외에는 시작을 중단한다. (totp 형식은 입장권을 발급하지 않으므로 임시 키로 충분)
+ */
+@Slf4j
+@Service
+public class QrTicketService {
+
+    public static final String TICKET_PREFIX = "T1.";
+
+    private static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
+    private static final int TIME_STEP_SECONDS = 30;
+    private static final int VERIFY_WINDOW_STEPS = 1;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final int SHORT_CODE_MODULUS = 1_000_000; // 6자리
+    private static final int GENERATED_KEY_BYTES = 32;
+    private static final Base64.Encoder SIGNATURE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder SIGNATURE_DECODER = Base64.getUrlDecoder();
+    private static final Profiles DEV_PROFILES = Profiles.of("dev", "local", "test");
+    private static final String FORMAT_TOTP = "totp";
+
+    private final Mac prototype;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public QrTicketService(
+            @Value("${app.qr.ticket-secret:}") String ticketSecret,
+            @Value("${app.qr.format:signed}") String format,
+            Environment environment
+    ) {
+        this(ticketSecret, FORMAT_TOTP.equalsIgnoreCase(format) || environment.acceptsProfiles(DEV_PROFILES));
+    }
+
+    QrTicketService(String ticketSecret) {
+        this(ticketSecret, false);
+    }
+
+    private QrTicketService(String ticketSecret, boolean allowGeneratedKey) {
+        byte[] key;
+        if (ticketSecret == null || ticketSecret.isBlank()) {
+            if (!allowGeneratedKey) {
+                throw new IllegalStateException(
+                        "app.qr.ticket-secret(QR_TICKET_SECRET)이 설정되지 않았습니다. "
+                                + "app.qr.format=totp 이거나 dev/local/test 프로필에서만 생략할 수 있습니다.");
+            }
+            // 개발용 임시 키 (재시작/다중 노드에서는 발급한 입장권이 검증되지 않음)
+            log.warn("app.qr.ticket-secret이 설정되지 않아 임시 QR 서명 키를 사용합니다.");
+            key = new byte[GENERATED_KEY_BYTES];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = ticketSecret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        try {
+            prototype = Mac.getInstance(HMAC_SHA256_ALGORITHM);
+            prototype.init(new SecretKeySpec(key, HMAC_SHA256_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("QR 서명 키 초기화에 실패했습니다.", e);
+        }
+        macs = ThreadLocal.withInitial(this::cloneMac);
+    }
+
+    /**
+     * 서명된 입장권 형식인지 확인
+     */
+    public boolean isTicket(String qrData) {
+        return qrData != null && qrData.startsWith(TICKET_PREFIX);
+    }
+
+    /**
+     * 현재 시간 스텝의 입장권 발급
+     */
+    public String issue(Long waitingId, long statusEpoch) {
+        return issue(waitingId, statusEpoch, currentTimeStep());
+    }
+
+    /**
+     * 특정 시간 스텝의 입장권 발급
+     */
+    public String issue(Long waitingId, long statusEpoch, long timeStep) {
+        String payload = waitingId + "." + statusEpoch + "." + timeStep;
+        return TICKET_PREFIX + payload + "." + SIGNATURE_ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 현재 시간 기준 입장권 검증 (서명/형식/시간 중 하나라도 맞지 않으면 null)
+     */
+    public TicketClaims verify(String ticket) {
+        return verify(ticket, currentTimeStep());
+    }
+
+    /**
+     * 기준 시간 스텝 ±1 범위에서 입장권 검증
+     */
+    public TicketClaims verify(String ticket, long currentTimeStep) {
+        if (!isTicket(ticket)) {
+            return null;
+        }
+
+        int signatureStart = ticket.lastIndexOf('.');
+        if (signatureStart <= TICKET_PREFIX.length()) {
+            return null;
+        }
+        String payload = ticket.substring(TICKET_PREFIX.length(), signatureStart);
+        String[] fields = payload.split("\\.");
+        if (fields.length != 3) {
+            return null;
+        }
+
+        TicketClaims claims;
+        byte[] provided;
+        try {
+            claims = new TicketClaims(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+            provided = SIGNATURE_DECODER.decode(ticket.substring(signatureStart + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (Math.abs(currentTimeStep - claims.timeStep()) > VERIFY_WINDOW_STEPS) {
+            return null;
+        }
+        // 상수 시간 비교 (응답 시간으로 서명을 추측할 수 없게 함)
+        if (!MessageDigest.isEqual(sign(payload), provided)) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * 입장권과 같은 내용으로 만든 6자리 단축 코드 (RFC 4226 방식으로 HMAC을 잘라 사용)
+     */
+    public int shortCode(Long waitingId, long statusEpoch, long timeStep) {
+        byte[] hash = macs.get().doFinal(("S." + waitingId + "." + statusEpoch + "." + timeStep)
+                .getBytes(StandardCharsets.US_ASCII));
+        int offset = hash[hash.length - 1] & 0x0F;
+        int binary = ((hash[offset] & 0x7F) << 24) |
+                ((hash[offset + 1] & 0xFF) << 16) |
+                ((hash[offset + 2] & 0xFF) << 8) |
+                (hash[offset + 3] & 0xFF);
+        return binary % SHORT_CODE_MODULUS;
+    }
+
+    /**
+     * 입장권에 담긴 내용 (서명 검증 없이 형식만 확인, 서버가 방금 발급한 입장권에만 사용)
+     */
+    public TicketClaims parseUnverified(String ticket) {
+        if (!isTicket(ticket)) {
+            return null;
+        }
+        String[] fields = ticket.substring(TICKET_PREFIX.length()).split("\\.");
+        if (fields.length != 4) {
+            return null;
+        }
+        try {
+            return new TicketClaims(Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 호출 시각을 입장권의 statusEpoch(epoch 초)로 변환, 아직 호출되지 않았으면 0 (검증 시 CALLED 조건에서 걸러짐)
+     */
+    public static long statusEpochOf(LocalDateTime callTime) {
+        return callTime != null ? callTime.atZone(ZoneId.systemDefault()).toEpochSecond() : 0L;
+    }
+
+    /**
+     * statusEpoch를 호출 시각(초 단위)으로 변환
+     */
+    public static LocalDateTime callTimeOf(long statusEpoch) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(statusEpoch), ZoneId.systemDefault());
+    }
+
+    /**
+     * 현재 시간 스텝 (30초 단위)
+     */
+    public static long currentTimeStep() {
+        return System.currentTimeMillis() / 1000 / TIME_STEP_SECONDS;
+    }
+
+    /**
+     * 다음 시간 스텝까지 남은 초
+     */
+    public static long secondsUntilNextStep() {
+        long currentTimeSeconds = System.currentTimeMillis() / 1000;
+        return (currentTimeSeconds / TIME_STEP_SECONDS + 1) * TIME_STEP_SECONDS - currentTimeSeconds;
+    }
+
+    private byte[] sign(String payload) {
+        byte[] hash = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return Arrays.copyOf(hash, SIGNATURE_BYTES);
+    }
+
+    private Mac cloneMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("QR 서명 키 초기화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 검증된 입장권 내용
+     */
+    public record TicketClaims(Long waitingId, long statusEpoch, long timeStep) {
+    }
+}
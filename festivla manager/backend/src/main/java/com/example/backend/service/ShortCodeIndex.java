@@ -0,0 +1,301 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.QrVerifyResponse;
+import com.example.backend.dto.response.ShortCodeCandidateResponse;
+import com.example.backend.exception.RateLimitExceededException;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.repository.projection.QrShortCodeRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직접 입력용 6자리 단축 코드 색인
+ * QR을 스캔할 수 없을 때 학생 화면의 6자리 코드를 입력하면, 현재 호출된(CALLED) 웨이팅들의 코드 → 웨이팅 색인에서 바로 찾는다.
+ * - 시간 스텝마다 전용 스레드가 현재 ±1 스텝의 코드를 다시 계산해 통째로 교체 (조회는 잠금 없이 스냅샷을 읽음)
+ * - 색인 대상은 호출된 웨이팅만, 최대 app.qr.short-code.max-waitings 개로 제한
+ * - 색인 대상은 현재(기본) 이벤트의 웨이팅만 (다른 이벤트의 코드와 섞이지 않음)
+ * - 코드가 겹치면 후보 목록을 돌려주고, 관리자가 웨이팅을 골라 다시 요청
+ * - 6자리 코드를 차례로 넣어 보는 것을 막기 위해, 색인에 없는 코드 입력은 스캐너별 토큰 버킷으로 제한
+ */
+@Slf4j
+@Service
+public class ShortCodeIndex {
+
+    private static final String FORMAT_TOTP = "totp";
+    private static final int VERIFY_WINDOW_STEPS = 1;
+    private static final long TIME_STEP_MILLIS = 30_000L;
+    private static final long REBUILD_DELAY_MILLIS = 50L;
+    // 색인에 없는 코드가 들어오면 이 간격 이상 지난 경우에만 다시 만들어 방금 호출된 웨이팅을 반영
+    private static final long MISS_REBUILD_INTERVAL_MILLIS = 5_000L;
+
+    private final WaitingRepository waitingRepository;
+    private final EventRepository eventRepository;
+    private final QrTicketService qrTicketService;
+    private final TotpService totpService;
+    private final QrCodeService qrCodeService;
+    private final boolean signedCodes;
+    private final int maxWaitings;
+    private final long missIntervalNanos;
+    private final long missToleranceNanos;
+    // 스캐너 ID -> 틀린 코드 입력 버킷의 다음 토큰 시각(TAT, ChatRateLimiter와 같은 GCRA)
+    private final Cache<String, AtomicLong> missBuckets;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean running;
+    private Thread rebuildThread;
+
+    public ShortCodeIndex(
+            WaitingRepository waitingRepository,
+            EventRepository eventRepository,
+            QrTicketService qrTicketService,
+            TotpService totpService,
+            QrCodeService qrCodeService,
+            @Value("${app.qr.format:signed}") String format,
+            @Value("${app.qr.short-code.max-waitings:5000}") int maxWaitings,
+            @Value("${app.qr.short-code.miss-capacity:5}") int missCapacity,
+            @Value("${app.qr.short-code.miss-refill-interval:10s}") Duration missRefillInterval
+    ) {
+        this.waitingRepository = waitingRepository;
+        this.eventRepository = eventRepository;
+        this.qrTicketService = qrTicketService;
+        this.totpService = totpService;
+        this.qrCodeService = qrCodeService;
+        this.signedCodes = !FORMAT_TOTP.equalsIgnoreCase(format);
+        this.maxWaitings = maxWaitings;
+        this.missIntervalNanos = missRefillInterval.toNanos();
+        this.missToleranceNanos = missIntervalNanos * missCapacity;
+        this.missBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(missToleranceNanos).plusSeconds(1))
+                .build();
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        rebuildThread = Thread.ofPlatform()
+                .name("short-code-index")
+                .daemon(true)
+                .start(this::runRebuildLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        rebuildThread.interrupt();
+        rebuildThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * QR 데이터에 대응하는 6자리 단축 코드 (학생 화면 표시용)
+     */
+    public String shortCodeOf(String qrData) {
+        if (qrTicketService.isTicket(qrData)) {
+            QrTicketService.TicketClaims claims = qrTicketService.parseUnverified(qrData);
+            return claims != null
+                    ? format(qrTicketService.shortCode(claims.waitingId(), claims.statusEpoch(), claims.timeStep()))
+                    : null;
+        }
+        int separator = qrData.indexOf(':');
+        return separator >= 0 ? qrData.substring(separator + 1) : null;
+    }
+
+    /**
+     * 단축 코드로 웨이팅을 찾아 입장 완료 처리
+     * @param scannerId 입력한 스캐너 기기 (틀린 코드 입력 제한 단위)
+     * @param waitingId 코드가 겹칠 때 관리자가 고른 웨이팅 (없으면 null)
+     * @throws RateLimitExceededException 틀린 코드를 짧은 시간에 너무 많이 입력한 경우
+     */
+    public QrVerifyResponse verify(String scannerId, String code, Long waitingId) {
+        checkMissBudget(scannerId);
+        int value;
+        try {
+            value = Integer.parseInt(code);
+        } catch (NumberFormatException e) {
+            return QrVerifyResponse.invalid("입장 코드는 6자리 숫자입니다.");
+        }
+
+        Candidate[] candidates = lookup(value);
+        if (waitingId != null) {
+            candidates = Arrays.stream(candidates)
+                    .filter(candidate -> candidate.waitingId().equals(waitingId))
+                    .toArray(Candidate[]::new);
+        }
+        if (candidates.length == 0) {
+            recordMiss(scannerId);
+            return QrVerifyResponse.invalid("유효하지 않은 입장 코드입니다. 다시 확인해주세요.");
+        }
+        if (candidates.length > 1) {
+            return QrVerifyResponse.ambiguous(Arrays.stream(candidates).map(Candidate::toResponse).toList());
+        }
+
+        Candidate candidate = candidates[0];
+        QrCodeService.QrScanResult result = qrCodeService.confirmArrival(candidate.waitingId(), candidate.callTime());
+        if (result == null) {
+            return QrVerifyResponse.invalid("입장 가능한 상태가 아닙니다.");
+        }
+        return result.alreadyArrived()
+                ? QrVerifyResponse.alreadyArrived(result.arrival())
+                : QrVerifyResponse.arrived(result.arrival());
+    }
+
+    /**
+     * 색인된 웨이팅 수
+     */
+    public int getIndexedWaitingCount() {
+        return snapshot.waitingCount();
+    }
+
+    // 틀린 코드 입력 토큰이 남아 있는지만 확인 (맞는 코드 입력은 토큰을 쓰지 않음)
+    private void checkMissBudget(String scannerId) {
+        AtomicLong tat = missBuckets.getIfPresent(scannerId);
+        if (tat == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = Math.max(tat.get(), now) + missIntervalNanos - now - missToleranceNanos;
+        if (wait > 0) {
+            log.warn("입장 코드 입력 제한: scannerId={}", scannerId);
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException("틀린 입장 코드 입력이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    private void recordMiss(String scannerId) {
+        AtomicLong tat = missBuckets.get(scannerId, id -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        tat.updateAndGet(current -> (current == Long.MIN_VALUE || current - now < 0 ? now : current) + missIntervalNanos);
+    }
+
+    private Candidate[] lookup(int code) {
+        long currentStep = System.currentTimeMillis() / TIME_STEP_MILLIS;
+        Snapshot current = snapshot;
+        if (current.timeStep() != currentStep) {
+            current = rebuildIfOlderThan(0L);
+        }
+
+        Candidate[] candidates = current.codes().get(code);
+        if (candidates == null) {
+            current = rebuildIfOlderThan(MISS_REBUILD_INTERVAL_MILLIS);
+            candidates = current.codes().get(code);
+        }
+        return candidates != null ? candidates : new Candidate[0];
+    }
+
+    private synchronized Snapshot rebuildIfOlderThan(long ageMillis) {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current.timeStep() == now / TIME_STEP_MILLIS && now - current.builtAtMillis() < ageMillis) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        long now = System.currentTimeMillis();
+        long currentStep = now / TIME_STEP_MILLIS;
+        Long eventId = eventRepository.findFirstByOrderByIdAsc().map(Event::getId).orElse(null);
+        List<QrShortCodeRow> rows = eventId != null
+                ? waitingRepository.findShortCodeRowsByStatus(eventId, WaitingStatus.CALLED, Limit.of(maxWaitings))
+                : List.of();
+        if (rows.size() == maxWaitings) {
+            log.warn("단축 코드 색인 대상이 최대치에 도달했습니다: maxWaitings={}", maxWaitings);
+        }
+
+        Map<Integer, List<Candidate>> byCode = new HashMap<>(rows.size() * 4);
+        for (QrShortCodeRow row : rows) {
+            Candidate candidate = Candidate.of(row);
+            for (long step = currentStep - VERIFY_WINDOW_STEPS; step <= currentStep + VERIFY_WINDOW_STEPS; step++) {
+                int code = codeOf(row, step);
+                if (code < 0) {
+                    break;
+                }
+                List<Candidate> sameCode = byCode.computeIfAbsent(code, c -> new ArrayList<>(1));
+                if (!sameCode.contains(candidate)) {
+                    sameCode.add(candidate);
+                }
+            }
+        }
+
+        Map<Integer, Candidate[]> codes = new HashMap<>(byCode.size() * 2);
+        byCode.forEach((code, candidates) -> codes.put(code, candidates.toArray(Candidate[]::new)));
+        Snapshot rebuilt = new Snapshot(currentStep, now, rows.size(), codes);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    // 형식별 코드 (TOTP secret이 아직 없으면 -1)
+    private int codeOf(QrShortCodeRow row, long timeStep) {
+        if (signedCodes) {
+            return qrTicketService.shortCode(row.waitingId(), QrTicketService.statusEpochOf(row.callTime()), timeStep);
+        }
+        if (row.totpSecret() == null || row.totpSecret().isEmpty()) {
+            return -1;
+        }
+        return Integer.parseInt(totpService.generateCode(row.totpSecret(), timeStep));
+    }
+
+    private void runRebuildLoop() {
+        while (running) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("단축 코드 색인 갱신 실패", e);
+            }
+            try {
+                long untilNextStep = TIME_STEP_MILLIS - System.currentTimeMillis() % TIME_STEP_MILLIS;
+                Thread.sleep(untilNextStep + REBUILD_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String format(int code) {
+        char[] digits = new char[6];
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + code % 10);
+            code /= 10;
+        }
+        return new String(digits);
+    }
+
+    private record Snapshot(long timeStep, long builtAtMillis, int waitingCount, Map<Integer, Candidate[]> codes) {
+        static final Snapshot EMPTY = new Snapshot(-1L, 0L, 0, Map.of());
+    }
+
+    private record Candidate(Long waitingId, LocalDateTime callTime, Long waitingNumber, String userNickname, Integer headCount) {
+
+        static Candidate of(QrShortCodeRow row) {
+            return new Candidate(row.waitingId(), row.callTime(), row.waitingNumber(), row.userNickname(), row.headCount());
+        }
+
+        ShortCodeCandidateResponse toResponse() {
+            return ShortCodeCandidateResponse.builder()
+                    .waitingId(waitingId)
+                    .waitingNumber(waitingNumber)
+                    .userNickname(userNickname)
+                    .headCount(headCount)
+                    .build();
+        }
+    }
+}
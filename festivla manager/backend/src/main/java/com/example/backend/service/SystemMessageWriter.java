@@ -0,0 +1,342 @@
+package com.example.backend.service;
+
+import com.example.backend.domain.entity.ChatRoom;
+import com.example.backend.domain.enums.ChatRoomStatus;
+import com.example.backend.domain.enums.MessageType;
+import com.example.backend.domain.enums.SenderRole;
+import com.example.backend.dto.response.ChatMessageResponse;
+import com.example.backend.event.ChatMessageSentEvent;
+import com.example.backend.repository.ChatRoomRepository;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 시스템 메시지 비동기 일괄 저장 (write-behind)
+ * 호출 요청 경로에서는 큐에 넣기만 하고, 전용 스레드 하나가 모아서 저장한다.
+ * - 메시지: JDBC 배치 INSERT 1회
+ * - 채팅방: 방별 마지막 메시지/안 읽은 수를 합산해 배치 UPDATE 1회 (방마다 메시지 수만큼 UPDATE하지 않음)
+ * - 메시지마다 ChatMessageSentEvent 발행 (WebSocket 전달, 검색 색인)
+ * 단일 스레드가 도착 순서대로 저장하므로 같은 채팅방 안의 메시지 순서(ID 순서)가 유지된다.
+ * 큐가 가득 차면 호출 측이 자리가 날 때까지 기다리고(backpressure), 호출 스레드에서 직접 저장하는 것은
+ * 작성 스레드가 멈춘 뒤 큐에 남은 메시지를 먼저 저장한 경우뿐이다.
+ * 일괄 저장이 실패하면 같은 INSERT/UPDATE로 한 건씩 순서대로 다시 저장한다. (행 형식과 이벤트 ID 유지)
+ */
+@Slf4j
+@Component
+public class SystemMessageWriter {
+
+    private static final String INSERT_MESSAGE_SQL = """
+            INSERT INTO chat_messages (event_id, chat_room_id, sender_role, message, is_read, type, created_at, updated_at)
+            VALUES (:eventId, :chatRoomId, :senderRole, :message, false, :type, :createdAt, :createdAt)
+            """;
+    private static final String UPDATE_ROOM_SQL = """
+            UPDATE chat_rooms
+            SET last_message = ?,
+                last_message_at = ?,
+                student_unread_count = student_unread_count + ?,
+                updated_at = ?
+            WHERE id = ?
+            """;
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 1_000;
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration linger;
+    private final BlockingQueue<PendingMessage> queue;
+    // 큐에 넣는 쪽(read)과 종료 처리(write)를 구분해, 종료가 시작된 뒤에는 큐에 새 메시지가 들어가지 않게 함
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public SystemMessageWriter(
+            ChatRoomRepository chatRoomRepository,
+            EventRepository eventRepository,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.chat.system-message.batch-size:200}") int batchSize,
+            @Value("${app.chat.system-message.linger:50ms}") Duration linger,
+            @Value("${app.chat.system-message.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("system-message-writer")
+                .daemon(true)
+                .start(this::runWriteLoop);
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 저장한 뒤 스레드 정리
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        writerThread.join(STOP_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 시스템 메시지 저장 예약
+     * 트랜잭션 안에서 호출되면 커밋 이후에 큐에 넣어, 롤백된 호출의 메시지는 남기지 않는다.
+     */
+    public void enqueue(Long eventId, Long userId, String content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(new PendingMessage(eventId, userId, content, LocalDateTime.now()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(new PendingMessage(eventId, userId, content, LocalDateTime.now()));
+            }
+        });
+    }
+
+    private void offer(PendingMessage message) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                stateLock.readLock().lock();
+                try {
+                    if (!running || !writerThread.isAlive()) {
+                        break;
+                    }
+                    if (queue.offer(message, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    // 메시지를 버리지 않도록 계속 기다리고, 인터럽트 상태는 끝나고 복원
+                    interrupted = true;
+                } finally {
+                    stateLock.readLock().unlock();
+                }
+                log.warn("시스템 메시지 큐가 가득 차 자리가 나기를 기다립니다: size={}", queue.size());
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeAfterDrain(message);
+    }
+
+    /**
+     * 작성 스레드가 멈춘 뒤(종료 중)의 메시지는 호출 스레드에서 저장
+     * 큐에 남은 메시지를 먼저 순서대로 저장해 같은 채팅방 안의 순서를 유지한다.
+     */
+    private synchronized void writeAfterDrain(PendingMessage message) {
+        try {
+            writerThread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::writeIndividually);
+        log.warn("시스템 메시지 작성 스레드가 멈춰 바로 저장합니다: userId={}", message.userId());
+        writeIndividually(message);
+    }
+
+    private void runWriteLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 동시에 여러 팀을 호출하는 경우를 한 번에 저장하도록 linger 동안 추가 메시지를 모음
+     */
+    private void collect(List<PendingMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, List<PendingMessage>> byEvent = batch.stream()
+                        .collect(Collectors.groupingBy(PendingMessage::eventId, LinkedHashMap::new, Collectors.toList()));
+                byEvent.forEach(this::writeEventBatch);
+            });
+        } catch (RuntimeException e) {
+            // 일괄 저장이 롤백되면 순서대로 한 건씩 다시 저장
+            log.error("시스템 메시지 일괄 저장 실패, 개별 저장으로 재시도: size={}", batch.size(), e);
+            batch.forEach(this::writeIndividually);
+        }
+    }
+
+    private void writeEventBatch(Long eventId, List<PendingMessage> messages) {
+        Map<Long, Long> roomIdsByUserId = resolveOpenRooms(eventId, messages);
+
+        SqlParameterSource[] insertParams = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("eventId", eventId)
+                        .addValue("chatRoomId", roomIdsByUserId.get(message.userId()))
+                        .addValue("senderRole", SenderRole.ADMIN.name())
+                        .addValue("message", message.content())
+                        .addValue("type", MessageType.SYSTEM.name())
+                        .addValue("createdAt", Timestamp.valueOf(message.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, insertParams, keyHolder, new String[]{"id"});
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+
+        // 방별로 마지막 메시지와 추가된 수만 모아 한 번씩 갱신
+        Map<Long, RoomUpdate> roomUpdates = new LinkedHashMap<>();
+        for (PendingMessage message : messages) {
+            roomUpdates.merge(
+                    roomIdsByUserId.get(message.userId()),
+                    new RoomUpdate(message.content(), message.createdAt(), 1),
+                    RoomUpdate::followedBy
+            );
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ROOM_SQL, roomUpdates.entrySet().stream()
+                .map(entry -> new Object[]{
+                        entry.getValue().lastMessage(),
+                        Timestamp.valueOf(entry.getValue().lastMessageAt()),
+                        entry.getValue().count(),
+                        Timestamp.valueOf(entry.getValue().lastMessageAt()),
+                        entry.getKey()
+                })
+                .toList());
+
+        // 커밋 이후 WebSocket 푸시와 검색 색인(ChatSearchIndex) 반영, 롤백되면 발행되지 않고 개별 재저장 때 다시 발행
+        for (int i = 0; i < messages.size(); i++) {
+            PendingMessage message = messages.get(i);
+            ChatMessageResponse response = ChatMessageResponse.builder()
+                    .messageId(((Number) keys.get(i).values().iterator().next()).longValue())
+                    .chatRoomId(roomIdsByUserId.get(message.userId()))
+                    .senderRole(SenderRole.ADMIN)
+                    .message(message.content())
+                    .isRead(false)
+                    .type(MessageType.SYSTEM)
+                    .createdAt(message.createdAt())
+                    .build();
+            eventPublisher.publishEvent(new ChatMessageSentEvent(eventId, message.userId(), response));
+        }
+    }
+
+    /**
+     * 배치에 포함된 사용자들의 열린 채팅방을 한 번에 조회하고, 없는 사용자만 새 방 생성
+     */
+    private Map<Long, Long> resolveOpenRooms(Long eventId, List<PendingMessage> messages) {
+        List<Long> userIds = messages.stream().map(PendingMessage::userId).distinct().toList();
+        Map<Long, Long> roomIdsByUserId = new LinkedHashMap<>();
+        chatRoomRepository.findByEventIdAndStatusAndUserIdIn(eventId, ChatRoomStatus.OPEN, userIds)
+                .forEach(room -> roomIdsByUserId.putIfAbsent(room.getUser().getId(), room.getId()));
+
+        List<ChatRoom> newRooms = userIds.stream()
+                .filter(userId -> !roomIdsByUserId.containsKey(userId))
+                .map(userId -> ChatRoom.builder()
+                        .event(eventRepository.getReferenceById(eventId))
+                        .user(userRepository.getReferenceById(userId))
+                        .status(ChatRoomStatus.OPEN)
+                        .build())
+                .toList();
+        chatRoomRepository.saveAllAndFlush(newRooms)
+                .forEach(room -> roomIdsByUserId.put(room.getUser().getId(), room.getId()));
+        return roomIdsByUserId;
+    }
+
+    private void writeIndividually(PendingMessage message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeEventBatch(message.eventId(), List.of(message)));
+        } catch (RuntimeException e) {
+            log.error("시스템 메시지 저장 실패: eventId={}, userId={}", message.eventId(), message.userId(), e);
+        }
+    }
+
+    private record PendingMessage(Long eventId, Long userId, String content, LocalDateTime createdAt) {
+    }
+
+    private record RoomUpdate(String lastMessage, LocalDateTime lastMessageAt, long count) {
+
+        RoomUpdate followedBy(RoomUpdate next) {
+            return new RoomUpdate(next.lastMessage(), next.lastMessageAt(), count + next.count());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheInvalidator;
 import com.example.backend.domain.entity.Event;
 import com.example.backend.domain.entity.Table;
 import com.example.backend.domain.entity.TableAssignmentHistory;
@@ -9,9 +10,8 @@ import com.example.backend.dto.response.TableResponse;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.TableAssignmentHistoryRepository;
 import com.example.backend.repository.TableRepository;
+import com.example.backend.repository.projection.TableListRow;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,22 +28,18 @@ public class TableService {
     private final TableRepository tableRepository;
     private final EventRepository eventRepository;
     private final TableAssignmentHistoryRepository tableAssignmentHistoryRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final TableTimerService tableTimerService;
 
-    @Cacheable(value = "tableList", key = "@cacheKey.tables()")
+    @Cacheable(value = "tableList", key = "@cacheKey.tables()", sync = true)
     public List<TableResponse> getAllTables() {
         Long eventId = getDefaultEvent().getId();
-        List<Table> tables = tableRepository.findByEventIdOrderByTableNumberAsc(eventId);
-        return tables.stream()
+        return tableRepository.findListRowsByEventId(eventId).stream()
                 .map(this::buildTableResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public TableResponse updateStatus(Long tableId, TableStatusUpdateRequest request) {
         Long eventId = getDefaultEvent().getId();
         Table table = tableRepository.findById(tableId)
@@ -71,6 +67,10 @@ public class TableService {
         }
 
         tableRepository.save(table);
+        if (beforeStatus != targetStatus) {
+            tableTimerService.statusChanged(table.getId(), table.getStatus(), table.getStatusChangedAt());
+        }
+        cacheInvalidator.tablesChanged(eventId);
         return buildTableResponse(table);
     }
 
@@ -114,6 +114,18 @@ public class TableService {
                 .capacity(table.getCapacity())
                 .status(table.getStatus())
                 .currentWaitingId(table.getCurrentWaiting() != null ? table.getCurrentWaiting().getId() : null)
+                .statusChangedAt(table.getStatusChangedAt())
+                .build();
+    }
+
+    private TableResponse buildTableResponse(TableListRow row) {
+        return TableResponse.builder()
+                .tableId(row.tableId())
+                .tableNumber(row.tableNumber())
+                .capacity(row.capacity())
+                .status(row.status())
+                .currentWaitingId(row.currentWaitingId())
+                .statusChangedAt(row.statusChangedAt())
                 .build();
     }
 }
@@ -0,0 +1,240 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheInvalidator;
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.dto.response.WebSocketMessage;
+import com.example.backend.event.TableStatusChangedEvent;
+import com.example.backend.handler.WaitingWebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 테이블 상태 타이머 (노쇼 만료와 같은 TimerWheel 사용, 테이블당 타이머 하나)
+ * - CLEANING: app.table.cleaning-duration 이 지나면 EMPTY로 자동 전환 (한 틱의 대상은 UPDATE 한 번으로 처리)
+ * - OCCUPIED: 배정 시작(startedAt)부터 app.table.occupancy-limit 이 지나면 손님에게 이용 시간 종료 안내
+ * 상태가 바뀌면 같은 키로 다시 등록하거나 취소하고, 만료 시에도 DB의 상태/변경 시각을 다시 확인해 아직 마감 전이면 다시 등록한다.
+ * 0으로 설정한 타이머는 사용하지 않는다.
+ */
+@Slf4j
+@Service
+public class TableTimerService {
+
+    private static final String TIME_UP_MESSAGE = "Your table time is up. Please wrap up for the next guests.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final WaitingWebSocketHandler waitingWebSocketHandler;
+    private final SystemMessageWriter systemMessageWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration cleaningDuration;
+    private final Duration occupancyLimit;
+    private final TimerWheel<Long> timers;
+
+    public TableTimerService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidator cacheInvalidator,
+            WaitingWebSocketHandler waitingWebSocketHandler,
+            SystemMessageWriter systemMessageWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.table.cleaning-duration:5m}") Duration cleaningDuration,
+            @Value("${app.table.occupancy-limit:0}") Duration occupancyLimit,
+            @Value("${app.table.timer-tick:1s}") Duration tick
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.waitingWebSocketHandler = waitingWebSocketHandler;
+        this.systemMessageWriter = systemMessageWriter;
+        this.eventPublisher = eventPublisher;
+        this.cleaningDuration = cleaningDuration;
+        this.occupancyLimit = occupancyLimit;
+        this.timers = new TimerWheel<>("table-timer", tick, this::fire);
+    }
+
+    @PostConstruct
+    void start() {
+        if (isEnabled(cleaningDuration) || isEnabled(occupancyLimit)) {
+            timers.start(this::recoverTimers);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        timers.stop();
+    }
+
+    /**
+     * 테이블 상태 변경 후 타이머 갱신 (커밋 후 반영, 같은 테이블의 이전 타이머는 취소)
+     */
+    public void statusChanged(Long tableId, TableStatus status, LocalDateTime changedAt) {
+        eventPublisher.publishEvent(new TableStatusChangedEvent(tableId, status, changedAt));
+        Duration duration = durationOf(status);
+        if (isEnabled(duration)) {
+            timers.scheduleAfterCommit(tableId, changedAt.plus(duration));
+        } else {
+            timers.cancelAfterCommit(tableId);
+        }
+    }
+
+    /**
+     * 테이블 배정 후 이용 시간 타이머 등록
+     */
+    public void scheduleOccupancy(Long tableId, LocalDateTime startedAt) {
+        statusChanged(tableId, TableStatus.OCCUPIED, startedAt);
+    }
+
+    private void fire(List<Long> tableIds) {
+        releaseCleaningTables(tableIds);
+        notifyTimeUp(tableIds);
+    }
+
+    private void releaseCleaningTables(List<Long> tableIds) {
+        if (!isEnabled(cleaningDuration)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> released = transactionTemplate.execute(status -> {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", tableIds)
+                    .addValue("cleaning", TableStatus.CLEANING.name());
+            // 그 사이 직접 EMPTY로 바꾼 테이블은 제외
+            List<TimedTable> cleaning = namedParameterJdbcTemplate.query("""
+                    SELECT id, event_id, status_changed_at
+                    FROM tables
+                    WHERE id IN (:ids) AND status = :cleaning AND status_changed_at IS NOT NULL
+                    FOR UPDATE
+                    """, params, (rs, rowNum) -> TimedTable.of(rs));
+            List<TimedTable> rows = dueOrReschedule(cleaning, now, cleaningDuration);
+            if (rows.isEmpty()) {
+                return List.<Long>of();
+            }
+
+            List<Long> releasedIds = rows.stream().map(TimedTable::tableId).toList();
+            MapSqlParameterSource updateParams = new MapSqlParameterSource()
+                    .addValue("ids", releasedIds)
+                    .addValue("empty", TableStatus.EMPTY.name())
+                    .addValue("now", Timestamp.valueOf(now));
+            namedParameterJdbcTemplate.update("""
+                    UPDATE tables
+                    SET status = :empty, current_waiting_id = NULL, status_changed_at = :now, updated_at = :now
+                    WHERE id IN (:ids)
+                    """, updateParams);
+
+            Set<Long> eventIds = new LinkedHashSet<>();
+            rows.forEach(row -> eventIds.add(row.eventId()));
+            eventIds.forEach(cacheInvalidator::tablesChanged);
+            return releasedIds;
+        });
+        if (released == null || released.isEmpty()) {
+            return;
+        }
+
+        released.forEach(tableId -> eventPublisher.publishEvent(
+                new TableStatusChangedEvent(tableId, TableStatus.EMPTY, now)));
+        log.info("Released {} cleaning tables.", released.size());
+    }
+
+    private void notifyTimeUp(List<Long> tableIds) {
+        if (!isEnabled(occupancyLimit)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", tableIds)
+                .addValue("occupied", TableStatus.OCCUPIED.name());
+        List<TimedTable> occupied = namedParameterJdbcTemplate.query("""
+                SELECT t.id, t.event_id, t.status_changed_at, w.id AS waiting_id, w.user_id
+                FROM tables t
+                JOIN waitings w ON w.id = t.current_waiting_id
+                WHERE t.id IN (:ids) AND t.status = :occupied AND t.status_changed_at IS NOT NULL
+                """, params, (rs, rowNum) -> TimedTable.withGuest(rs));
+        for (TimedTable row : dueOrReschedule(occupied, now, occupancyLimit)) {
+            waitingWebSocketHandler.sendToUser(row.userId(), WebSocketMessage.tableTimeUp(row.tableId(), row.waitingId()));
+            systemMessageWriter.enqueue(row.eventId(), row.userId(), TIME_UP_MESSAGE);
+        }
+    }
+
+    // 마감이 지난 행만 돌려주고, 아직 마감 전인 행은 타이머를 다시 등록 (일찍 깨어나도 타이머를 잃지 않게 함)
+    private List<TimedTable> dueOrReschedule(List<TimedTable> rows, LocalDateTime now, Duration duration) {
+        List<TimedTable> due = new ArrayList<>(rows.size());
+        for (TimedTable row : rows) {
+            LocalDateTime deadline = row.statusChangedAt().plus(duration);
+            if (deadline.isAfter(now)) {
+                timers.scheduleIfAbsent(row.tableId(), deadline);
+            } else {
+                due.add(row);
+            }
+        }
+        return due;
+    }
+
+    private void recoverTimers() {
+        jdbcTemplate.query(
+                "SELECT id, status, status_changed_at FROM tables WHERE status IN (?, ?) AND status_changed_at IS NOT NULL",
+                (RowCallbackHandler) rs -> {
+                    Duration duration = durationOf(TableStatus.valueOf(rs.getString("status")));
+                    if (isEnabled(duration)) {
+                        timers.schedule(rs.getLong("id"), rs.getTimestamp("status_changed_at").toLocalDateTime().plus(duration));
+                    }
+                },
+                TableStatus.CLEANING.name(),
+                TableStatus.OCCUPIED.name()
+        );
+        if (timers.size() > 0) {
+            log.info("Restored {} table timers.", timers.size());
+        }
+    }
+
+    private Duration durationOf(TableStatus status) {
+        return switch (status) {
+            case CLEANING -> cleaningDuration;
+            case OCCUPIED -> occupancyLimit;
+            case EMPTY -> Duration.ZERO;
+        };
+    }
+
+    private static boolean isEnabled(Duration duration) {
+        return duration != null && duration.isPositive();
+    }
+
+    private record TimedTable(Long tableId, Long eventId, LocalDateTime statusChangedAt, Long waitingId, Long userId) {
+
+        static TimedTable of(ResultSet rs) throws SQLException {
+            return new TimedTable(
+                    rs.getLong("id"), rs.getLong("event_id"), rs.getTimestamp("status_changed_at").toLocalDateTime(), null, null);
+        }
+
+        static TimedTable withGuest(ResultSet rs) throws SQLException {
+            return new TimedTable(
+                    rs.getLong("id"), rs.getLong("event_id"), rs.getTimestamp("status_changed_at").toLocalDateTime(),
+                    rs.getLong("waiting_id"), rs.getLong("user_id"));
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 타이머를 모아 처리하는 해시 타이밍 휠 (노쇼 만료, 테이블 타이머 공용)
+ * - 마감 시각을 틱 단위 칸에 넣고, 전용 스레드가 틱마다 해당 칸만 확인 (휠 한 바퀴보다 먼 마감은 남은 바퀴 수로 구분)
+ * - 키당 타이머는 하나, 다시 등록하면 이전 타이머는 취소됨
+ * - 취소는 표시만 하고 칸에서는 돌아올 때 버림 (O(1))
+ * - 한 틱에 만료된 키는 모아서 한 번에 처리 함수로 넘김
+ * - 마감 시각은 틱 단위로 올림해 칸에 넣으므로 마감 전에 만료되는 일은 없음 (최대 한 틱 늦게 만료)
+ * 다른 스레드는 등록 큐에만 넣고, 휠 칸은 타이머 스레드만 다룬다.
+ */
+@Slf4j
+public final class TimerWheel<K> {
+
+    private static final int WHEEL_SIZE = 512; // 2의 거듭제곱
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final String threadName;
+    private final long tickMillis;
+    private final Consumer<List<K>> expiryHandler;
+    private final LongSupplier clock;
+    private final ConcurrentLinkedQueue<Timeout<K>> pending = new ConcurrentLinkedQueue<>();
+    private final Map<K, Timeout<K>> active = new ConcurrentHashMap<>();
+    private final List<ArrayDeque<Timeout<K>>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private long currentTick;
+    private volatile boolean running;
+    private Thread timerThread;
+
+    public TimerWheel(String threadName, Duration tick, Consumer<List<K>> expiryHandler) {
+        this(threadName, tick, expiryHandler, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 직접 움직이기 위한 생성자
+    TimerWheel(String threadName, Duration tick, Consumer<List<K>> expiryHandler, LongSupplier clock) {
+        this.threadName = threadName;
+        this.tickMillis = Math.max(1L, tick.toMillis());
+        this.expiryHandler = expiryHandler;
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 타이머 스레드 시작
+     * @param onStart 첫 틱 전에 타이머 스레드에서 실행 (DB에서 타이머 복구 등)
+     */
+    public void start(Runnable onStart) {
+        running = true;
+        timerThread = Thread.ofPlatform()
+                .name(threadName)
+                .daemon(true)
+                .start(() -> {
+                    try {
+                        onStart.run();
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to restore timers: {}", threadName, e);
+                    }
+                    runTimerLoop();
+                });
+    }
+
+    public void stop() throws InterruptedException {
+        if (timerThread == null) {
+            return;
+        }
+        running = false;
+        timerThread.interrupt();
+        timerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 마감 시각에 타이머 등록 (같은 키의 이전 타이머는 취소)
+     */
+    public void schedule(K key, LocalDateTime deadline) {
+        schedule(key, toEpochMillisCeil(deadline));
+    }
+
+    void schedule(K key, long deadlineMillis) {
+        Timeout<K> timeout = new Timeout<>(key, deadlineMillis);
+        Timeout<K> previous = active.put(key, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    /**
+     * 같은 키의 타이머가 없을 때만 등록 (만료 처리 중 아직 마감 전인 키를 다시 넣을 때 사용, 그 사이 새로 등록된 타이머를 덮어쓰지 않음)
+     */
+    public void scheduleIfAbsent(K key, LocalDateTime deadline) {
+        Timeout<K> timeout = new Timeout<>(key, toEpochMillisCeil(deadline));
+        if (active.putIfAbsent(key, timeout) == null) {
+            pending.add(timeout);
+        }
+    }
+
+    /**
+     * 타이머 취소
+     */
+    public void cancel(K key) {
+        Timeout<K> timeout = active.remove(key);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 타이머 등록 (트랜잭션 밖이면 바로 등록)
+     */
+    public void scheduleAfterCommit(K key, LocalDateTime deadline) {
+        afterCommit(() -> schedule(key, deadline));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 타이머 취소 (트랜잭션 밖이면 바로 취소)
+     */
+    public void cancelAfterCommit(K key) {
+        afterCommit(() -> cancel(key));
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int size() {
+        return active.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void runTimerLoop() {
+        while (running) {
+            try {
+                long sleepMillis = (currentTick + 1) * tickMillis - clock.getAsLong();
+                if (sleepMillis > 0) {
+                    Thread.sleep(sleepMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            advance();
+        }
+    }
+
+    /**
+     * 현재 시각까지 지난 틱을 모두 처리하고, 만료된 키를 한 번에 처리 함수로 넘김 (타이머 스레드 또는 테스트에서만 호출)
+     */
+    void advance() {
+        List<K> expired = new ArrayList<>();
+        long nowTick = clock.getAsLong() / tickMillis;
+        while (currentTick < nowTick) {
+            currentTick++;
+            transferPending();
+            collectExpired(wheel.get((int) (currentTick & WHEEL_MASK)), expired);
+        }
+
+        if (!expired.isEmpty()) {
+            try {
+                expiryHandler.accept(expired);
+            } catch (RuntimeException e) {
+                log.error("Timer handler failed: {} ({} keys)", threadName, expired.size(), e);
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<K> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 올림: 칸의 틱 시작 시각이 마감 시각보다 앞서지 않게 함 (내림이면 최대 한 틱 일찍 만료됨)
+            long deadlineTick = Math.max(Math.ceilDiv(timeout.deadlineMillis, tickMillis), currentTick);
+            timeout.remainingRounds = (deadlineTick - currentTick) / WHEEL_SIZE;
+            wheel.get((int) (deadlineTick & WHEEL_MASK)).add(timeout);
+        }
+    }
+
+    private void collectExpired(ArrayDeque<Timeout<K>> bucket, List<K> expired) {
+        Iterator<Timeout<K>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<K> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                // 그 사이 다시 등록/취소되지 않은 경우에만 만료
+                if (active.remove(timeout.key, timeout)) {
+                    expired.add(timeout.key);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    // 밀리초 미만(DATETIME(6))은 올림해 마감 시각보다 일찍 만료되지 않게 함
+    private static long toEpochMillisCeil(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    private static final class Timeout<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * TOTP (Time-based One-Time Password) 서비스
  * RFC 6238 표준을 따름
+ *
+ * 스캔마다 Base32 디코딩/Mac 생성/문자열 포맷을 반복하지 않도록
+ * - secret별로 디코딩된 키와 초기화된 Mac을 캐시하고 (Mac은 슬롯 하나짜리 풀로 재사용)
+ * - HMAC 결과는 스레드별 버퍼에 받아 정수 연산으로 코드를 계산하며
+ * - 검증은 입력 코드를 정수로 읽어 상수 시간으로 비교한다 (문자열 생성 없음)
  */
 @Slf4j
 @Service
@@ -21,15 +29,27 @@ public class TotpService {
     private static final String HMAC_SHA1_ALGORITHM = "HmacSHA1";
     private static final int TIME_STEP_SECONDS = 30; // 30초 간격
     private static final int CODE_DIGITS = 6; // 6자리 코드
+    private static final int CODE_MODULUS = 1_000_000; // 10^CODE_DIGITS
     private static final int SECRET_LENGTH = 20; // 20바이트 (Base32로 인코딩 시 32자)
+    private static final int HMAC_SHA1_LENGTH = 20;
+    private static final int VERIFY_WINDOW_STEPS = 1; // 현재 시간 ±1 스텝 허용
+    private static final long MAX_CACHED_KEYS = 10_000;
+    private static final Duration KEY_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final ThreadLocal<byte[]> HASH_BUFFER = ThreadLocal.withInitial(() -> new byte[HMAC_SHA1_LENGTH]);
+
+    private final Cache<String, TotpKey> keys = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_KEYS)
+            .expireAfterAccess(KEY_IDLE_TIMEOUT)
+            .build();
 
     /**
      * TOTP Secret 생성 (Base32 인코딩)
      */
     public String generateSecret() {
-        SecureRandom random = new SecureRandom();
         byte[] secretBytes = new byte[SECRET_LENGTH];
-        random.nextBytes(secretBytes);
+        SECURE_RANDOM.nextBytes(secretBytes);
         return Base32.encode(secretBytes);
     }
 
@@ -37,52 +57,129 @@ public class TotpService {
      * 현재 시간 기반 TOTP 코드 생성
      */
     public String generateCode(String secret) {
-        long timeStep = System.currentTimeMillis() / 1000 / TIME_STEP_SECONDS;
-        return generateCode(secret, timeStep);
+        return generateCode(secret, currentTimeStep());
     }
 
     /**
      * 특정 시간 스텝에 대한 TOTP 코드 생성
      */
     public String generateCode(String secret, long timeStep) {
-        try {
-            byte[] secretBytes = Base32.decode(secret);
-            byte[] timeBytes = ByteBuffer.allocate(8).putLong(timeStep).array();
-
-            Mac mac = Mac.getInstance(HMAC_SHA1_ALGORITHM);
-            SecretKeySpec keySpec = new SecretKeySpec(secretBytes, HMAC_SHA1_ALGORITHM);
-            mac.init(keySpec);
-            byte[] hash = mac.doFinal(timeBytes);
-
-            // Dynamic Truncation (RFC 4226)
-            int offset = hash[hash.length - 1] & 0x0F;
-            int binary = ((hash[offset] & 0x7F) << 24) |
-                    ((hash[offset + 1] & 0xFF) << 16) |
-                    ((hash[offset + 2] & 0xFF) << 8) |
-                    (hash[offset + 3] & 0xFF);
-
-            int otp = binary % (int) Math.pow(10, CODE_DIGITS);
-            return String.format("%0" + CODE_DIGITS + "d", otp);
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            log.error("TOTP 코드 생성 실패", e);
-            throw new IllegalStateException("TOTP 코드 생성에 실패했습니다.", e);
+        int otp = keyOf(secret).compute(timeStep);
+
+        char[] digits = new char[CODE_DIGITS];
+        for (int i = CODE_DIGITS - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + otp % 10);
+            otp /= 10;
         }
+        return new String(digits);
     }
 
     /**
      * TOTP 코드 검증 (현재 시간 ±1 스텝 허용)
      */
     public boolean verifyCode(String secret, String code) {
-        long currentTimeStep = System.currentTimeMillis() / 1000 / TIME_STEP_SECONDS;
-        
-        // 현재 시간, 이전 시간, 다음 시간 모두 확인 (시간 동기화 오차 허용)
-        for (long timeStep = currentTimeStep - 1; timeStep <= currentTimeStep + 1; timeStep++) {
-            String expectedCode = generateCode(secret, timeStep);
-            if (code.equals(expectedCode)) {
-                return true;
+        return verifyCode(secret, code, currentTimeStep());
+    }
+
+    /**
+     * 기준 시간 스텝 ±1 범위에서 TOTP 코드 검증
+     * 일치 여부와 관계없이 모든 스텝을 계산하고 비트 연산으로 비교하여, 응답 시간으로 코드를 추측할 수 없게 함
+     */
+    public boolean verifyCode(String secret, String code, long currentTimeStep) {
+        int provided = parseCode(code);
+        if (provided < 0) {
+            return false;
+        }
+
+        TotpKey key = keyOf(secret);
+        int matched = 0;
+        for (long timeStep = currentTimeStep - VERIFY_WINDOW_STEPS; timeStep <= currentTimeStep + VERIFY_WINDOW_STEPS; timeStep++) {
+            // (x ^ y) == 0 일 때만 (0 - 1) >>> 31 == 1 (두 값 모두 10^6 미만의 양수)
+            matched |= ((key.compute(timeStep) ^ provided) - 1) >>> 31;
+        }
+        return matched == 1;
+    }
+
+    private TotpKey keyOf(String secret) {
+        return keys.get(secret, TotpKey::new);
+    }
+
+    private static long currentTimeStep() {
+        return System.currentTimeMillis() / 1000 / TIME_STEP_SECONDS;
+    }
+
+    /**
+     * 6자리 숫자 코드를 정수로 변환 (형식이 다르면 -1), 자릿수는 비밀 정보가 아니므로 길이 검사는 바로 반환
+     */
+    private static int parseCode(String code) {
+        if (code == null || code.length() != CODE_DIGITS) {
+            return -1;
+        }
+        int value = 0;
+        int invalid = 0;
+        for (int i = 0; i < CODE_DIGITS; i++) {
+            int digit = code.charAt(i) - '0';
+            invalid |= digit | (9 - digit);
+            value = value * 10 + digit;
+        }
+        return invalid < 0 ? -1 : value;
+    }
+
+    /**
+     * secret 하나에 대한 디코딩된 키와 초기화된 Mac
+     * 같은 웨이팅을 동시에 검증하는 경우는 드물어 슬롯 하나짜리 풀로 충분하며, 경합 시에만 원본을 복제해 사용
+     */
+    private static final class TotpKey {
+
+        private final Mac prototype;
+        private final AtomicReference<Mac> idle = new AtomicReference<>();
+
+        private TotpKey(String secret) {
+            try {
+                prototype = Mac.getInstance(HMAC_SHA1_ALGORITHM);
+                prototype.init(new SecretKeySpec(Base32.decode(secret), HMAC_SHA1_ALGORITHM));
+                idle.set((Mac) prototype.clone());
+            } catch (GeneralSecurityException | CloneNotSupportedException | IllegalArgumentException e) {
+                log.error("TOTP 키 초기화 실패", e);
+                throw new IllegalStateException("TOTP 코드 생성에 실패했습니다.", e);
+            }
+        }
+
+        int compute(long timeStep) {
+            Mac mac = borrow();
+            try {
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    mac.update((byte) (timeStep >>> shift));
+                }
+                byte[] hash = HASH_BUFFER.get();
+                mac.doFinal(hash, 0);
+
+                // Dynamic Truncation (RFC 4226)
+                int offset = hash[HMAC_SHA1_LENGTH - 1] & 0x0F;
+                int binary = ((hash[offset] & 0x7F) << 24) |
+                        ((hash[offset + 1] & 0xFF) << 16) |
+                        ((hash[offset + 2] & 0xFF) << 8) |
+                        (hash[offset + 3] & 0xFF);
+                return binary % CODE_MODULUS;
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException("TOTP 코드 생성에 실패했습니다.", e);
+            } finally {
+                // doFinal 이후 Mac은 초기화된 상태로 돌아가므로 그대로 반납
+                idle.compareAndSet(null, mac);
+            }
+        }
+
+        private Mac borrow() {
+            Mac mac = idle.getAndSet(null);
+            if (mac != null) {
+                return mac;
+            }
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException("TOTP 코드 생성에 실패했습니다.", e);
             }
         }
-        return false;
     }
 
     /**
@@ -115,15 +212,24 @@ public class TotpService {
             return result.toString();
         }
 
+        /**
+         * 대소문자 무시, Base32 알파벳이 아닌 문자(공백, 패딩 등)는 건너뜀 (키 캐시 적재 시 한 번만 실행)
+         */
         public static byte[] decode(String encoded) {
-            encoded = encoded.toUpperCase().replaceAll("[^A-Z2-7]", "");
+            int validChars = 0;
+            for (int i = 0; i < encoded.length(); i++) {
+                if (valueOf(encoded.charAt(i)) >= 0) {
+                    validChars++;
+                }
+            }
+
             int buffer = 0;
             int bitsLeft = 0;
-            byte[] result = new byte[(encoded.length() * 5) / 8];
+            byte[] result = new byte[(validChars * 5) / 8];
             int resultIndex = 0;
 
-            for (char c : encoded.toCharArray()) {
-                int value = BASE32_CHARS.indexOf(c);
+            for (int i = 0; i < encoded.length(); i++) {
+                int value = valueOf(encoded.charAt(i));
                 if (value < 0) continue;
 
                 buffer = (buffer << 5) | value;
@@ -137,5 +243,12 @@ public class TotpService {
 
             return result;
         }
+
+        private static int valueOf(char c) {
+            if (c >= 'A' && c <= 'Z') return c - 'A';
+            if (c >= 'a' && c <= 'z') return c - 'a';
+            if (c >= '2' && c <= '7') return c - '2' + 26;
+            return -1;
+        }
     }
 }
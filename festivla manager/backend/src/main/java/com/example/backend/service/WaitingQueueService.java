@@ -2,16 +2,22 @@ package com.example.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class WaitingQueueService {
 
-    private static final String WAITING_QUEUE_KEY = "waiting:queue";
-    private final ZSetOperations<String, Object> zSetOperations;
+    // v2: 멤버를 JSON 문자열이 아닌 웨이팅 ID 10진 문자열로 저장 (이전 키와 혼용 방지)
+    private static final String WAITING_QUEUE_KEY = "waiting:queue:v2";
+    private final ZSetOperations<String, String> zSetOperations;
 
     /**
      * 대기열에 추가
@@ -22,6 +28,37 @@ public class WaitingQueueService {
         zSetOperations.add(WAITING_QUEUE_KEY, waitingId.toString(), waitingNumber.doubleValue());
     }
 
+    /**
+     * 대기열 앞에서 positions 팀 뒤에 추가 (노쇼 재등록 패널티)
+     * 앞뒤 팀 점수의 중간값을 점수로 쓰고, 대기열이 더 짧으면 맨 뒤에 추가
+     * @param waitingId 웨이팅 ID
+     * @param positions 앞에 둘 팀 수
+     * @param waitingNumber 대기열이 비어 있을 때 쓸 대기 번호
+     */
+    public void addAfter(Long waitingId, long positions, Long waitingNumber) {
+        double score;
+        if (positions <= 0) {
+            Set<TypedTuple<String>> first = zSetOperations.rangeWithScores(WAITING_QUEUE_KEY, 0, 0);
+            score = first == null || first.isEmpty()
+                    ? waitingNumber.doubleValue()
+                    : first.iterator().next().getScore() - 1;
+        } else {
+            Set<TypedTuple<String>> around = zSetOperations.rangeWithScores(WAITING_QUEUE_KEY, positions - 1, positions);
+            List<TypedTuple<String>> neighbors = around != null ? new ArrayList<>(around) : List.of();
+            if (neighbors.size() == 2) {
+                score = (neighbors.get(0).getScore() + neighbors.get(1).getScore()) / 2;
+            } else if (neighbors.size() == 1) {
+                score = neighbors.get(0).getScore() + 1;
+            } else {
+                Set<TypedTuple<String>> last = zSetOperations.rangeWithScores(WAITING_QUEUE_KEY, -1, -1);
+                score = last == null || last.isEmpty()
+                        ? waitingNumber.doubleValue()
+                        : last.iterator().next().getScore() + 1;
+            }
+        }
+        zSetOperations.add(WAITING_QUEUE_KEY, waitingId.toString(), score);
+    }
+
     /**
      * 대기열에서 제거
      * @param waitingId 웨이팅 ID
@@ -50,6 +87,24 @@ public class WaitingQueueService {
         return rank != null && rank >= 0 ? rank : 0L;
     }
 
+    /**
+     * 대기열 전체 순위 스냅샷 (ZRANGE 한 번으로 조회)
+     * @return 웨이팅 ID → 내 앞의 대기 팀 수
+     */
+    public Map<Long, Long> getRankSnapshot() {
+        Set<String> members = zSetOperations.range(WAITING_QUEUE_KEY, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> ranks = new HashMap<>(members.size() * 2);
+        long rank = 0L;
+        for (String member : members) {
+            ranks.put(Long.parseLong(member), rank++);
+        }
+        return ranks;
+    }
+
     /**
      * 대기열 크기 조회
      * @return 대기열 크기
@@ -64,9 +119,9 @@ public class WaitingQueueService {
      * @return 웨이팅 ID (없으면 null)
      */
     public Long getFirstWaitingId() {
-        Set<Object> first = zSetOperations.range(WAITING_QUEUE_KEY, 0, 0);
+        Set<String> first = zSetOperations.range(WAITING_QUEUE_KEY, 0, 0);
         if (first != null && !first.isEmpty()) {
-            return Long.parseLong(first.iterator().next().toString());
+            return Long.parseLong(first.iterator().next());
         }
         return null;
     }
@@ -1,22 +1,25 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheInvalidator;
 import com.example.backend.domain.entity.Event;
 import com.example.backend.domain.entity.TableAssignmentHistory;
 import com.example.backend.domain.entity.User;
 import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.TableStatus;
 import com.example.backend.domain.enums.WaitingStatus;
 import com.example.backend.dto.request.WaitingRequest;
 import com.example.backend.dto.response.WaitingResponse;
 import com.example.backend.dto.response.WebSocketMessage;
+import com.example.backend.event.WaitingCallEvent;
 import com.example.backend.handler.WaitingWebSocketHandler;
 import com.example.backend.repository.EventRepository;
 import com.example.backend.repository.TableAssignmentHistoryRepository;
 import com.example.backend.repository.UserRepository;
 import com.example.backend.repository.WaitingRepository;
+import com.example.backend.repository.projection.WaitingListRow;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,14 +53,13 @@ public class WaitingService {
     private final WaitingWebSocketHandler waitingWebSocketHandler;
     private final com.example.backend.repository.TableRepository tableRepository;
     private final TableAssignmentHistoryRepository tableAssignmentHistoryRepository;
-    private final ChatService chatService;
+    private final SystemMessageWriter systemMessageWriter;
+    private final CacheInvalidator cacheInvalidator;
+    private final NoShowExpiryService noShowExpiryService;
+    private final TableTimerService tableTimerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public WaitingResponse joinWaiting(Long userId, WaitingRequest request) {
         Event event = getDefaultEvent();
         LocalDate businessDate = LocalDate.now();
@@ -85,6 +88,7 @@ public class WaitingService {
 
         waiting = waitingRepository.save(waiting);
         waitingQueueService.addToQueue(waiting.getId(), waitingNumber);
+        cacheInvalidator.waitingsChanged(event.getId(), WaitingStatus.WAITING);
         return buildWaitingResponse(waiting);
     }
 
@@ -105,24 +109,23 @@ public class WaitingService {
         return response;
     }
 
-    @Cacheable(value = "waitingList", key = "@cacheKey.waitings(#status)")
+    @Cacheable(value = "waitingList", key = "@cacheKey.waitings(#status)", sync = true)
     public List<WaitingResponse> getWaitingList(WaitingStatus status) {
         Long eventId = getDefaultEvent().getId();
-        List<Waiting> waitings = (status == null)
-                ? waitingRepository.findByEventIdOrderByWaitingNumberAsc(eventId)
-                : waitingRepository.findByEventIdAndStatusOrderByWaitingNumberAsc(eventId, status);
+        List<WaitingListRow> rows = (status == null)
+                ? waitingRepository.findListRowsByEventId(eventId)
+                : waitingRepository.findListRowsByEventIdAndStatus(eventId, status);
 
-        return waitings.stream()
-                .map(this::buildWaitingResponse)
+        // 순위는 행마다 ZRANK를 호출하지 않고 대기열 스냅샷 한 번으로 계산
+        boolean hasWaitingRows = rows.stream().anyMatch(row -> row.status() == WaitingStatus.WAITING);
+        Map<Long, Long> queueRanks = hasWaitingRows ? waitingQueueService.getRankSnapshot() : Map.of();
+
+        return rows.stream()
+                .map(row -> buildWaitingResponse(row, queueRanks))
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public WaitingResponse callUser(Long waitingId) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
@@ -135,23 +138,25 @@ public class WaitingService {
         waiting.call(callTime);
         waitingRepository.save(waiting);
         waitingQueueService.removeFromQueue(waitingId);
+        cacheInvalidator.waitingsChanged(waiting.getEvent().getId(), WaitingStatus.WAITING, WaitingStatus.CALLED);
+        noShowExpiryService.schedule(waitingId, callTime);
+        eventPublisher.publishEvent(new WaitingCallEvent(waitingId, callTime, WaitingCallEvent.Outcome.CALLED));
 
         WebSocketMessage message = WebSocketMessage.called(
                 waiting.getId(),
                 callTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
         );
         waitingWebSocketHandler.sendToUser(waiting.getUser().getId(), message);
-        chatService.sendSystemMessage(waiting.getUser().getId(), "You have been called. Please enter now.");
+        systemMessageWriter.enqueue(
+                waiting.getEvent().getId(),
+                waiting.getUser().getId(),
+                "You have been called. Please enter now."
+        );
 
         return buildWaitingResponse(waiting);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public WaitingResponse confirmEntry(Long waitingId) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
@@ -162,15 +167,12 @@ public class WaitingService {
 
         waiting.arrive();
         waitingRepository.save(waiting);
+        cacheInvalidator.waitingsChanged(waiting.getEvent().getId(), WaitingStatus.CALLED, WaitingStatus.ARRIVED);
+        eventPublisher.publishEvent(new WaitingCallEvent(waitingId, waiting.getCallTime(), WaitingCallEvent.Outcome.ARRIVED));
         return buildWaitingResponse(waiting);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public void cancelWaiting(Long waitingId, Long userId) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
@@ -185,21 +187,20 @@ public class WaitingService {
             throw new IllegalStateException("ARRIVED waiting cannot be canceled.");
         }
 
-        boolean wasWaiting = waiting.getStatus() == WaitingStatus.WAITING;
+        WaitingStatus previousStatus = waiting.getStatus();
+        boolean wasWaiting = previousStatus == WaitingStatus.WAITING;
         waiting.cancel();
         waitingRepository.save(waiting);
+        cacheInvalidator.waitingsChanged(waiting.getEvent().getId(), previousStatus, WaitingStatus.CANCELED);
 
         if (wasWaiting) {
             waitingQueueService.removeFromQueue(waitingId);
+        } else {
+            eventPublisher.publishEvent(new WaitingCallEvent(waitingId, waiting.getCallTime(), WaitingCallEvent.Outcome.CANCELED));
         }
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public WaitingResponse cancelWaitingByAdmin(Long waitingId) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
@@ -211,23 +212,22 @@ public class WaitingService {
             throw new IllegalStateException("ARRIVED waiting cannot be canceled.");
         }
 
-        boolean wasWaiting = waiting.getStatus() == WaitingStatus.WAITING;
+        WaitingStatus previousStatus = waiting.getStatus();
+        boolean wasWaiting = previousStatus == WaitingStatus.WAITING;
         waiting.cancel();
         waitingRepository.save(waiting);
+        cacheInvalidator.waitingsChanged(waiting.getEvent().getId(), previousStatus, WaitingStatus.CANCELED);
 
         if (wasWaiting) {
             waitingQueueService.removeFromQueue(waitingId);
+        } else {
+            eventPublisher.publishEvent(new WaitingCallEvent(waitingId, waiting.getCallTime(), WaitingCallEvent.Outcome.CANCELED));
         }
 
         return buildWaitingResponse(waiting);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "dashboardStats", allEntries = true),
-            @CacheEvict(value = "tableList", allEntries = true),
-            @CacheEvict(value = "waitingList", allEntries = true)
-    })
     public WaitingResponse assignTable(Long waitingId, Long tableId) {
         Waiting waiting = waitingRepository.findById(waitingId)
                 .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
@@ -248,23 +248,66 @@ public class WaitingService {
             throw new IllegalStateException("Table already has an active assignment history.");
         }
 
-        table.assignWaiting(waiting);
+        assign(waiting, table);
+
+        return buildWaitingResponse(waiting);
+    }
+
+    /**
+     * 입장 처리된 웨이팅을 인원수에 맞는 가장 작은 빈 테이블에 배정 (QR 스캔 트랜잭션 안에서 실행)
+     * 다른 스캐너가 잠근 테이블은 건너뛰므로 동시 스캔끼리 같은 테이블을 두고 기다리지 않는다.
+     * 테이블을 이미 이용하고 나간 웨이팅(배정 이력이 있는 웨이팅)은 다시 배정하지 않는다.
+     * @return 배정된 테이블 (이미 배정되어 있으면 그 테이블), 빈 테이블이 없으면 null
+     */
+    @Transactional
+    public com.example.backend.domain.entity.Table seatAtBestFitTable(Long waitingId) {
+        com.example.backend.domain.entity.Table seated = tableRepository.findByCurrentWaitingId(waitingId).orElse(null);
+        if (seated != null) {
+            return seated;
+        }
+
+        Waiting waiting = waitingRepository.findById(waitingId)
+                .orElseThrow(() -> new IllegalArgumentException("Waiting not found."));
+        if (waiting.getStatus() != WaitingStatus.ARRIVED) {
+            throw new IllegalStateException("Only ARRIVED waiting can be seated.");
+        }
+        if (tableAssignmentHistoryRepository.existsByWaitingId(waitingId)) {
+            throw new IllegalStateException("Waiting has already been seated.");
+        }
+
+        com.example.backend.domain.entity.Table table = tableRepository
+                .lockBestFitEmptyTable(waiting.getEvent().getId(), waiting.getHeadCount(), TableStatus.EMPTY.name())
+                .orElse(null);
+        if (table == null) {
+            return null;
+        }
+
+        assign(waiting, table);
+        return table;
+    }
+
+    private void assign(Waiting waiting, com.example.backend.domain.entity.Table table) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        table.assignWaiting(waiting, startedAt);
         tableRepository.save(table);
+        tableTimerService.scheduleOccupancy(table.getId(), startedAt);
 
         TableAssignmentHistory history = TableAssignmentHistory.builder()
                 .event(waiting.getEvent())
                 .table(table)
                 .waiting(waiting)
-                .startedAt(LocalDateTime.now())
+                .startedAt(startedAt)
                 .build();
         tableAssignmentHistoryRepository.save(history);
 
-        if (waiting.getStatus() != WaitingStatus.ARRIVED) {
+        WaitingStatus previousStatus = waiting.getStatus();
+        if (previousStatus != WaitingStatus.ARRIVED) {
             waiting.arrive();
             waitingRepository.save(waiting);
+            eventPublisher.publishEvent(new WaitingCallEvent(waiting.getId(), waiting.getCallTime(), WaitingCallEvent.Outcome.ARRIVED));
         }
-
-        return buildWaitingResponse(waiting);
+        cacheInvalidator.tablesChanged(waiting.getEvent().getId());
+        cacheInvalidator.waitingsChanged(waiting.getEvent().getId(), previousStatus, WaitingStatus.ARRIVED);
     }
 
     private Event getDefaultEvent() {
@@ -300,4 +343,29 @@ public class WaitingService {
                 .userPhoneNumber(waiting.getUser().getPhoneNumber())
                 .build();
     }
+
+    private WaitingResponse buildWaitingResponse(WaitingListRow row, Map<Long, Long> queueRanks) {
+        Long rank = 0L;
+        Integer estimatedMinutes = 0;
+
+        if (row.status() == WaitingStatus.WAITING) {
+            rank = queueRanks.getOrDefault(row.waitingId(), 0L);
+            estimatedMinutes = (int) (rank * ESTIMATED_MINUTES_PER_TEAM);
+        }
+
+        return WaitingResponse.builder()
+                .waitingId(row.waitingId())
+                .waitingNumber(row.waitingNumber())
+                .headCount(row.headCount())
+                .status(row.status())
+                .rank(rank)
+                .estimatedMinutes(estimatedMinutes)
+                .callTime(row.callTime())
+                .createdAt(row.createdAt())
+                .userId(row.userId())
+                .userName(row.userName())
+                .userNickname(row.userNickname())
+                .userPhoneNumber(row.userPhoneNumber())
+                .build();
+    }
 }
@@ -0,0 +1,29 @@
+SET @add_tables_status_changed_at = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'tables'
+              AND column_name = 'status_changed_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE tables ADD COLUMN status_changed_at DATETIME(6) NULL'
+    )
+);
+PREPARE stmt_add_tables_status_changed_at FROM @add_tables_status_changed_at;
+EXECUTE stmt_add_tables_status_changed_at;
+DEALLOCATE PREPARE stmt_add_tables_status_changed_at;
+
+-- 사용 중인 테이블은 진행 중인 배정 시작 시각, 나머지는 마지막 수정 시각으로 채우기
+UPDATE tables t
+SET t.status_changed_at = COALESCE(
+        (
+            SELECT MAX(h.started_at)
+            FROM table_assignment_history h
+            WHERE h.table_id = t.id
+              AND h.ended_at IS NULL
+        ),
+        t.updated_at
+    )
+WHERE t.status_changed_at IS NULL;
@@ -0,0 +1,41 @@
+SET @add_chat_rooms_last_message_at = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND column_name = 'last_message_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE chat_rooms ADD COLUMN last_message_at DATETIME(6) NULL'
+    )
+);
+PREPARE stmt_add_chat_rooms_last_message_at FROM @add_chat_rooms_last_message_at;
+EXECUTE stmt_add_chat_rooms_last_message_at;
+DEALLOCATE PREPARE stmt_add_chat_rooms_last_message_at;
+
+-- 기존 메시지 기준으로 마지막 메시지 시각 채우기
+UPDATE chat_rooms r
+SET r.last_message_at = (
+    SELECT MAX(m.created_at)
+    FROM chat_messages m
+    WHERE m.chat_room_id = r.id
+);
+
+SET @create_idx_chat_rooms_event_updated = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND index_name = 'idx_chat_rooms_event_updated'
+        ),
+        'SELECT 1',
+        'CREATE INDEX idx_chat_rooms_event_updated ON chat_rooms(event_id, updated_at)'
+    )
+);
+PREPARE stmt_create_idx_chat_rooms_event_updated FROM @create_idx_chat_rooms_event_updated;
+EXECUTE stmt_create_idx_chat_rooms_event_updated;
+DEALLOCATE PREPARE stmt_create_idx_chat_rooms_event_updated;
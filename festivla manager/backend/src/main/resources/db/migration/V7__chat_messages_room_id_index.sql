@@ -0,0 +1,16 @@
+SET @create_idx_chat_messages_room_id = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_messages'
+              AND index_name = 'idx_chat_messages_room_id'
+        ),
+        'SELECT 1',
+        'CREATE INDEX idx_chat_messages_room_id ON chat_messages(chat_room_id, id)'
+    )
+);
+PREPARE stmt_create_idx_chat_messages_room_id FROM @create_idx_chat_messages_room_id;
+EXECUTE stmt_create_idx_chat_messages_room_id;
+DEALLOCATE PREPARE stmt_create_idx_chat_messages_room_id;
@@ -0,0 +1,100 @@
+SET @add_chat_rooms_admin_last_read = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND column_name = 'admin_last_read_message_id'
+        ),
+        'SELECT 1',
+        'ALTER TABLE chat_rooms ADD COLUMN admin_last_read_message_id BIGINT NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt_add_chat_rooms_admin_last_read FROM @add_chat_rooms_admin_last_read;
+EXECUTE stmt_add_chat_rooms_admin_last_read;
+DEALLOCATE PREPARE stmt_add_chat_rooms_admin_last_read;
+
+SET @add_chat_rooms_student_last_read = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND column_name = 'student_last_read_message_id'
+        ),
+        'SELECT 1',
+        'ALTER TABLE chat_rooms ADD COLUMN student_last_read_message_id BIGINT NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt_add_chat_rooms_student_last_read FROM @add_chat_rooms_student_last_read;
+EXECUTE stmt_add_chat_rooms_student_last_read;
+DEALLOCATE PREPARE stmt_add_chat_rooms_student_last_read;
+
+SET @add_chat_rooms_admin_unread = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND column_name = 'admin_unread_count'
+        ),
+        'SELECT 1',
+        'ALTER TABLE chat_rooms ADD COLUMN admin_unread_count BIGINT NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt_add_chat_rooms_admin_unread FROM @add_chat_rooms_admin_unread;
+EXECUTE stmt_add_chat_rooms_admin_unread;
+DEALLOCATE PREPARE stmt_add_chat_rooms_admin_unread;
+
+SET @add_chat_rooms_student_unread = (
+    SELECT IF(
+        EXISTS (
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'chat_rooms'
+              AND column_name = 'student_unread_count'
+        ),
+        'SELECT 1',
+        'ALTER TABLE chat_rooms ADD COLUMN student_unread_count BIGINT NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt_add_chat_rooms_student_unread FROM @add_chat_rooms_student_unread;
+EXECUTE stmt_add_chat_rooms_student_unread;
+DEALLOCATE PREPARE stmt_add_chat_rooms_student_unread;
+
+-- 기존 is_read 플래그로 워터마크를 채운다 (학생은 관리자 메시지를 읽음 처리해 왔음)
+UPDATE chat_rooms r
+SET r.student_last_read_message_id = COALESCE((
+        SELECT MAX(m.id)
+        FROM chat_messages m
+        WHERE m.chat_room_id = r.id
+          AND m.sender_role = 'ADMIN'
+          AND m.is_read = TRUE
+    ), 0),
+    r.admin_last_read_message_id = COALESCE((
+        SELECT MAX(m.id)
+        FROM chat_messages m
+        WHERE m.chat_room_id = r.id
+          AND m.sender_role = 'STUDENT'
+          AND m.is_read = TRUE
+    ), 0);
+
+UPDATE chat_rooms r
+SET r.admin_unread_count = (
+        SELECT COUNT(*)
+        FROM chat_messages m
+        WHERE m.chat_room_id = r.id
+          AND m.sender_role = 'STUDENT'
+          AND m.id > r.admin_last_read_message_id
+    ),
+    r.student_unread_count = (
+        SELECT COUNT(*)
+        FROM chat_messages m
+        WHERE m.chat_room_id = r.id
+          AND m.sender_role = 'ADMIN'
+          AND m.id > r.student_last_read_message_id
+    );
@@ -0,0 +1,4 @@
+-- 종료된 이벤트 데이터를 옮겨 둘 아카이브 테이블 (원본과 같은 컬럼/인덱스, FK는 복사되지 않음)
+CREATE TABLE IF NOT EXISTS table_assignment_history_archive LIKE table_assignment_history;
+CREATE TABLE IF NOT EXISTS chat_messages_archive LIKE chat_messages;
+CREATE TABLE IF NOT EXISTS waitings_archive LIKE waitings;
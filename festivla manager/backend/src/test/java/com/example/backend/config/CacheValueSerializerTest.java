@@ -0,0 +1,110 @@
+package com.example.backend.config;
+
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.TableResponse;
+import com.example.backend.dto.response.WaitingResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시 값 직렬화 (바이너리 코덱) 왕복 결과와 JSON 대비 크기 확인
+ * 처리 시간 비교는 JMH 벤치마크(CacheValueSerializerBenchmark, ./gradlew jmh)에서 측정
+ */
+class CacheValueSerializerTest {
+
+    private final CacheValueSerializer binarySerializer = new CacheValueSerializer();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void waitingList_roundTripsAndIsSmallerThanJson() {
+        List<WaitingResponse> waitings = createWaitings(500);
+
+        byte[] binary = binarySerializer.serialize(waitings);
+        byte[] json = jsonMapper.writeValueAsBytes(waitings);
+
+        assertThat(binarySerializer.deserialize(binary))
+                .usingRecursiveComparison()
+                .isEqualTo(waitings);
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    void tableList_roundTripsAndIsSmallerThanJson() {
+        List<TableResponse> tables = createTables(50);
+
+        byte[] binary = binarySerializer.serialize(tables);
+        byte[] json = jsonMapper.writeValueAsBytes(tables);
+
+        assertThat(binarySerializer.deserialize(binary))
+                .usingRecursiveComparison()
+                .isEqualTo(tables);
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    void emptyList_roundTrips() {
+        assertThat(binarySerializer.deserialize(binarySerializer.serialize(List.of()))).isEqualTo(List.of());
+    }
+
+    @Test
+    void nonCachedType_isRejected() {
+        assertThatThrownBy(() -> binarySerializer.serialize(List.of("a", "b")))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unsupported cache value type");
+    }
+
+    @Test
+    void otherSchemaVersion_isTreatedAsMiss() {
+        byte[] bytes = binarySerializer.serialize(createTables(3));
+        bytes[0] = (byte) (CacheValueSerializer.SCHEMA_VERSION + 1);
+
+        assertThat(binarySerializer.deserialize(bytes)).isNull();
+    }
+
+    private static List<WaitingResponse> createWaitings(int size) {
+        LocalDateTime base = LocalDateTime.of(2026, 5, 20, 18, 0, 0, 123_456_000);
+        List<WaitingResponse> waitings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            WaitingStatus status = i % 5 == 0 ? WaitingStatus.CALLED : WaitingStatus.WAITING;
+            waitings.add(WaitingResponse.builder()
+                    .waitingId(10_000L + i)
+                    .waitingNumber((long) i + 1)
+                    .headCount(2 + i % 4)
+                    .status(status)
+                    .rank((long) i)
+                    .estimatedMinutes(i * 10)
+                    .callTime(status == WaitingStatus.CALLED ? base.plusMinutes(i) : null)
+                    .createdAt(base.plusSeconds(i * 7L))
+                    .userId(500L + i)
+                    .userName("학생" + i)
+                    .userNickname(i % 3 == 0 ? null : "nick-" + i)
+                    .userPhoneNumber(String.format("010-%04d-%04d", i, 9999 - i))
+                    .build());
+        }
+        return waitings;
+    }
+
+    private static List<TableResponse> createTables(int size) {
+        List<TableResponse> tables = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TableStatus status = TableStatus.values()[i % TableStatus.values().length];
+            tables.add(TableResponse.builder()
+                    .tableId(100L + i)
+                    .tableNumber(i + 1)
+                    .capacity(i % 2 == 0 ? 4 : 6)
+                    .status(status)
+                    .currentWaitingId(status == TableStatus.OCCUPIED ? 10_000L + i : null)
+                    .build());
+        }
+        return tables;
+    }
+}
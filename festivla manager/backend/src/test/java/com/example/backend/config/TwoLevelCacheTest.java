@@ -0,0 +1,129 @@
+package com.example.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 2단계 캐시 스탬피드 방지: 노드 내 single-flight와 노드 간 lease 해제 알림 대기
+ */
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "tableList";
+    private static final String KEY = "event:1:tables:v1";
+    private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheManager = new TwoLevelCacheManager(
+                remoteCacheManager,
+                stringRedisTemplate,
+                Map.of(),
+                Duration.ofSeconds(30),
+                100,
+                Duration.ofSeconds(30),
+                LEASE_TIMEOUT
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLoadsOfSameKey_callLoaderOnce() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(KEY, () -> {
+                    loads.incrementAndGet();
+                    TimeUnit.MILLISECONDS.sleep(100);
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCacheManager.getCache(CACHE_NAME).get(KEY, String.class)).isEqualTo("loaded");
+        verify(stringRedisTemplate).convertAndSend(eq(TwoLevelCacheManager.LEASE_RELEASED_CHANNEL), anyString());
+    }
+
+    @Test
+    void leaseHeldByOtherNode_waitsForReleaseInsteadOfLoading() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> result.complete(cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return "loaded";
+        })));
+        waiter.start();
+        awaitParked(waiter);
+
+        // 다른 노드가 L2에 적재한 뒤 lease를 해제
+        remoteCacheManager.getCache(CACHE_NAME).put(KEY, "remote");
+        cacheManager.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.LEASE_RELEASED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other-node\t" + CACHE_NAME + "\t" + KEY).getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("remote");
+        assertThat(loads.get()).isEqualTo(0);
+    }
+
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+    }
+}
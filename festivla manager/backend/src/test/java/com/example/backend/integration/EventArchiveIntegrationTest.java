@@ -0,0 +1,160 @@
+package com.example.backend.integration;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.Table;
+import com.example.backend.domain.entity.TableAssignmentHistory;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.UserRole;
+import com.example.backend.domain.enums.UserStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.EventArchiveResponse;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.TableAssignmentHistoryRepository;
+import com.example.backend.repository.TableRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.service.EventArchiveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 아카이브: INSERT ... SELECT / DELETE 배치로 행이 그대로 옮겨지는지 확인
+ * 아카이브는 별도 스레드/트랜잭션에서 실행되므로 테스트 데이터는 커밋하고 끝나면 직접 지운다.
+ */
+@SpringBootTest(properties = "app.archive.batch-size=2")
+class EventArchiveIntegrationTest {
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private TableAssignmentHistoryRepository tableAssignmentHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Event event;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        if (event == null) {
+            return;
+        }
+        for (String table : List.of("table_assignment_history", "waitings")) {
+            jdbcTemplate.update("DELETE FROM " + table + "_archive WHERE event_id = ?", event.getId());
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE event_id = ?", event.getId());
+        }
+        jdbcTemplate.update("DELETE FROM tables WHERE event_id = ?", event.getId());
+        userIds.forEach(userRepository::deleteById);
+        eventRepository.deleteById(event.getId());
+    }
+
+    @Test
+    void archive_movesRowsInBatchesAndReleasesTables() throws InterruptedException {
+        event = eventRepository.save(Event.builder()
+                .name("Archive Test Event")
+                .startDate(LocalDate.now().minusDays(3))
+                .endDate(LocalDate.now().minusDays(2))
+                .status("ACTIVE")
+                .build());
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(2).truncatedTo(ChronoUnit.SECONDS);
+        Table table = tableRepository.save(Table.builder()
+                .event(event)
+                .tableNumber(901)
+                .capacity(4)
+                .status(TableStatus.EMPTY)
+                .build());
+
+        List<Long> waitingIds = new ArrayList<>();
+        for (long number = 1; number <= 5; number++) {
+            User user = userRepository.save(User.builder()
+                    .name("archive-user-" + number)
+                    .nickname("archive-nick-" + number)
+                    .phoneNumber("010-3000-000" + number)
+                    .role(UserRole.STUDENT)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+            userIds.add(user.getId());
+            Waiting waiting = waitingRepository.save(Waiting.builder()
+                    .event(event)
+                    .user(user)
+                    .businessDate(event.getEndDate())
+                    .headCount(2)
+                    .status(WaitingStatus.ARRIVED)
+                    .waitingNumber(number)
+                    .build());
+            waitingIds.add(waiting.getId());
+        }
+        Waiting seated = waitingRepository.findById(waitingIds.get(4)).orElseThrow();
+        table.assignWaiting(seated, createdAt);
+        tableRepository.save(table);
+        tableAssignmentHistoryRepository.save(TableAssignmentHistory.builder()
+                .event(event)
+                .table(table)
+                .waiting(seated)
+                .startedAt(createdAt)
+                .build());
+        jdbcTemplate.update("UPDATE waitings SET created_at = ? WHERE event_id = ?", createdAt, event.getId());
+
+        eventArchiveService.requestArchive(event.getId());
+        EventArchiveResponse status = awaitArchive(event.getId());
+
+        assertThat(status.getStatus()).isEqualTo("COMPLETED");
+        assertThat(count("waitings", event.getId())).isEqualTo(0L);
+        assertThat(count("waitings_archive", event.getId())).isEqualTo(5L);
+        assertThat(count("table_assignment_history", event.getId())).isEqualTo(0L);
+        assertThat(count("table_assignment_history_archive", event.getId())).isEqualTo(1L);
+        // 기본값이 식인 컬럼도 원본 값 그대로 복사되고, 생성 컬럼은 다시 계산됨
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT id FROM waitings_archive WHERE event_id = ? AND created_at = ? ORDER BY id",
+                Long.class, event.getId(), createdAt)).isEqualTo(waitingIds);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT active_guard FROM table_assignment_history_archive WHERE event_id = ?",
+                Integer.class, event.getId())).isEqualTo(1);
+
+        Table released = tableRepository.findById(table.getId()).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(TableStatus.EMPTY);
+        assertThat(released.getCurrentWaiting()).isNull();
+    }
+
+    private EventArchiveResponse awaitArchive(Long eventId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        EventArchiveResponse status = eventArchiveService.getArchiveStatus(eventId);
+        while (!"COMPLETED".equals(status.getStatus()) && !"FAILED".equals(status.getStatus())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            status = eventArchiveService.getArchiveStatus(eventId);
+        }
+        return status;
+    }
+
+    private Long count(String table, Long eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Long.class, eventId);
+    }
+}
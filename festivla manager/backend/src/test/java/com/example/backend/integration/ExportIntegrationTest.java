@@ -0,0 +1,170 @@
+package com.example.backend.integration;
+
+import com.example.backend.controller.AdminExportController;
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.ExportFormat;
+import com.example.backend.domain.enums.UserRole;
+import com.example.backend.domain.enums.UserStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.service.ExportService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 데이터 내보내기: 스트리밍 CSV/NDJSON 출력과 gzip 응답 확인
+ */
+@SpringBootTest
+@Transactional
+class ExportIntegrationTest {
+
+    private static final String BOM = "\uFEFF";
+    private static final String WAITINGS_HEADER = "waiting_id,waiting_number,business_date,status,head_count,"
+            + "user_id,user_name,phone_number,created_at,call_time,status_changed_at";
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private AdminExportController adminExportController;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void exportWaitings_csv_writesHeaderAndOneLinePerRow() {
+        Event event = createEvent();
+        List<Waiting> waitings = List.of(
+                createWaiting(event, 1L, "export-user-1"),
+                createWaiting(event, 2L, "export, \"quoted\""));
+
+        String csv = export(event, ExportFormat.CSV);
+
+        String[] lines = csv.split("\r\n");
+        assertThat(csv).startsWith(BOM);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo(BOM + WAITINGS_HEADER);
+        assertThat(lines[1]).startsWith(waitings.get(0).getId() + ",1," + event.getStartDate() + ",WAITING,2,");
+        assertThat(lines[2]).contains(",\"export, \"\"quoted\"\"\",");
+    }
+
+    @Test
+    void exportWaitings_ndjson_writesOneObjectPerRow() {
+        Event event = createEvent();
+        Waiting waiting = createWaiting(event, 1L, "export-user-1");
+
+        String ndjson = export(event, ExportFormat.NDJSON);
+
+        assertThat(ndjson.split("\n")).hasSize(1);
+        assertThat(ndjson).startsWith("{\"waiting_id\":" + waiting.getId() + ",\"waiting_number\":1,")
+                .contains("\"status\":\"WAITING\"", "\"user_name\":\"export-user-1\"", "\"call_time\":null")
+                .endsWith("}\n");
+    }
+
+    @Test
+    void exportWaitings_emptyResult_writesHeaderOnly() {
+        Event event = createEvent();
+        entityManager.flush();
+
+        assertThat(export(event, ExportFormat.CSV)).isEqualTo(BOM + WAITINGS_HEADER + "\r\n");
+        assertThat(export(event, ExportFormat.NDJSON)).isEmpty();
+    }
+
+    @Test
+    void exportWaitings_gzipAccepted_compressesBody() throws IOException {
+        Event event = createEvent();
+        createWaiting(event, 1L, "export-user-1");
+
+        ResponseEntity<StreamingResponseBody> response = adminExportController.exportWaitings(
+                event.getId(), null, ExportFormat.CSV, "gzip, deflate");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("waitings-event" + event.getId() + ".csv");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv).startsWith(BOM + WAITINGS_HEADER + "\r\n");
+            assertThat(csv.split("\r\n")).hasSize(2);
+        }
+    }
+
+    @Test
+    void exportWaitings_gzipNotAccepted_writesPlainBody() throws IOException {
+        Event event = createEvent();
+        entityManager.flush();
+
+        ResponseEntity<StreamingResponseBody> response = adminExportController.exportWaitings(
+                event.getId(), null, ExportFormat.CSV, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(response.getHeaders().containsHeader(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(BOM + WAITINGS_HEADER + "\r\n");
+    }
+
+    private String export(Event event, ExportFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportWaitings(event.getId(), null, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Event createEvent() {
+        return eventRepository.save(Event.builder()
+                .name("Export Test Event")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .status("ACTIVE")
+                .build());
+    }
+
+    private Waiting createWaiting(Event event, Long number, String name) {
+        User user = userRepository.save(User.builder()
+                .name(name)
+                .phoneNumber("010-4100-000" + number)
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build());
+        Waiting waiting = waitingRepository.save(Waiting.builder()
+                .event(event)
+                .user(user)
+                .businessDate(event.getStartDate())
+                .headCount(2)
+                .status(WaitingStatus.WAITING)
+                .waitingNumber(number)
+                .build());
+        // JDBC 내보내기가 같은 트랜잭션에서 행을 볼 수 있도록 flush
+        entityManager.flush();
+        return waiting;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.backend.integration;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.Table;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.TableStatus;
+import com.example.backend.domain.enums.UserRole;
+import com.example.backend.domain.enums.UserStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.dto.response.TableResponse;
+import com.example.backend.dto.response.WaitingResponse;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.TableRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.service.TableService;
+import com.example.backend.service.WaitingService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 쿼리 수가 행 수와 무관하게 일정한지 검증 (N+1 회귀 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ListQueryCountIntegrationTest {
+
+    @Autowired
+    private WaitingService waitingService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Autowired
+    private TableRepository tableRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void waitingList_queryCountDoesNotGrowWithRows() {
+        Event event = getDefaultEvent();
+        createWaitings(event, 3);
+        long smallListQueries = countQueries(() -> waitingService.getWaitingList(WaitingStatus.CALLED), "waitingList");
+
+        createWaitings(event, 30);
+        long largeListQueries = countQueries(() -> waitingService.getWaitingList(WaitingStatus.CALLED), "waitingList");
+
+        List<WaitingResponse> waitings = waitingService.getWaitingList(WaitingStatus.CALLED);
+        assertThat(waitings).hasSizeGreaterThanOrEqualTo(33);
+        assertThat(waitings).allSatisfy(waiting -> assertThat(waiting.getUserName()).isNotNull());
+        assertThat(largeListQueries).isEqualTo(smallListQueries);
+    }
+
+    @Test
+    void tableList_queryCountDoesNotGrowWithRows() {
+        Event event = getDefaultEvent();
+        createOccupiedTables(event, 3);
+        long smallListQueries = countQueries(tableService::getAllTables, "tableList");
+
+        createOccupiedTables(event, 30);
+        long largeListQueries = countQueries(tableService::getAllTables, "tableList");
+
+        List<TableResponse> tables = tableService.getAllTables();
+        assertThat(tables).filteredOn(table -> table.getCurrentWaitingId() != null).hasSizeGreaterThanOrEqualTo(33);
+        assertThat(largeListQueries).isEqualTo(smallListQueries);
+    }
+
+    private long countQueries(Runnable query, String cacheName) {
+        // 새로 만든 엔티티가 영속성 컨텍스트에 남아 있으면 지연 로딩 쿼리가 드러나지 않으므로 비운 뒤 측정
+        entityManager.flush();
+        entityManager.clear();
+        cacheManager.getCache(cacheName).clear();
+        statistics.clear();
+
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createWaitings(Event event, int count) {
+        for (int i = 0; i < count; i++) {
+            createWaiting(event, createUser());
+        }
+    }
+
+    private void createOccupiedTables(Event event, int count) {
+        for (int i = 0; i < count; i++) {
+            Waiting waiting = createWaiting(event, createUser());
+            Table table = tableRepository.save(Table.builder()
+                    .event(event)
+                    .tableNumber(9_000 + sequence)
+                    .capacity(4)
+                    .status(TableStatus.EMPTY)
+                    .build());
+            table.assignWaiting(waiting, LocalDateTime.now());
+        }
+    }
+
+    private Event getDefaultEvent() {
+        return eventRepository.findFirstByOrderByIdAsc()
+                .orElseGet(() -> eventRepository.save(Event.builder()
+                        .name("Test Event")
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusDays(1))
+                        .status("ACTIVE")
+                        .build()));
+    }
+
+    private User createUser() {
+        String phoneNumber = String.format("010-9999-%04d", ++sequence);
+        return userRepository.save(User.builder()
+                .kakaoId(null)
+                .name("query-count-" + phoneNumber)
+                .nickname("nick-" + phoneNumber)
+                .phoneNumber(phoneNumber)
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private Waiting createWaiting(Event event, User user) {
+        return waitingRepository.save(Waiting.builder()
+                .event(event)
+                .user(user)
+                .businessDate(LocalDate.now().minusYears(10))
+                .headCount(2)
+                .status(WaitingStatus.CALLED)
+                .waitingNumber(90_000L + sequence)
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.backend.integration;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.entity.Waiting;
+import com.example.backend.domain.enums.UserRole;
+import com.example.backend.domain.enums.UserStatus;
+import com.example.backend.domain.enums.WaitingStatus;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.repository.WaitingRepository;
+import com.example.backend.service.QrCodeService;
+import com.example.backend.service.QrTicketService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QR 입장 처리: 조건부 전환(CAS), 같은 코드 재스캔, 이미 입장한 웨이팅의 다른 코드
+ */
+@SpringBootTest
+@Transactional
+class QrArrivalIntegrationTest {
+
+    @Autowired
+    private QrCodeService qrCodeService;
+
+    @Autowired
+    private QrTicketService qrTicketService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WaitingRepository waitingRepository;
+
+    @Test
+    void markArrivedIfCalled_onlyFirstTransitionForSameCallSucceeds() {
+        LocalDateTime callTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Waiting waiting = createCalledWaiting("010-2000-0001", 1L, callTime);
+
+        // 다른 호출(재호출 전 코드)의 시각으로는 전환되지 않음
+        assertThat(markArrived(waiting.getId(), callTime.minusMinutes(1))).isEqualTo(0);
+        assertThat(markArrived(waiting.getId(), callTime)).isEqualTo(1);
+        assertThat(markArrived(waiting.getId(), callTime)).isEqualTo(0);
+        assertThat(waitingRepository.findById(waiting.getId()).orElseThrow().getStatus()).isEqualTo(WaitingStatus.ARRIVED);
+    }
+
+    @Test
+    void rescanningSameCode_returnsFirstResult() {
+        LocalDateTime callTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Waiting waiting = createCalledWaiting("010-2000-0002", 2L, callTime);
+        long timeStep = QrTicketService.currentTimeStep();
+        String ticket = qrTicketService.issue(waiting.getId(), QrTicketService.statusEpochOf(callTime), timeStep);
+
+        QrCodeService.QrScanResult first = qrCodeService.verifyQrCode(ticket, timeStep);
+        QrCodeService.QrScanResult replay = qrCodeService.verifyQrCode(ticket, timeStep);
+
+        assertThat(first).isNotNull();
+        assertThat(first.alreadyArrived()).isFalse();
+        assertThat(first.arrival().waitingId()).isEqualTo(waiting.getId());
+        assertThat(replay).isEqualTo(first);
+    }
+
+    @Test
+    void otherCodeForArrivedWaiting_isReportedAsAlreadyArrived() {
+        LocalDateTime callTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Waiting waiting = createCalledWaiting("010-2000-0003", 3L, callTime);
+        long timeStep = QrTicketService.currentTimeStep();
+        long statusEpoch = QrTicketService.statusEpochOf(callTime);
+
+        QrCodeService.QrScanResult first = qrCodeService.verifyQrCode(
+                qrTicketService.issue(waiting.getId(), statusEpoch, timeStep), timeStep);
+        // 이전 시간 스텝의 코드(다른 화면 캡처 등)는 새 입장으로 처리하지 않음
+        QrCodeService.QrScanResult other = qrCodeService.verifyQrCode(
+                qrTicketService.issue(waiting.getId(), statusEpoch, timeStep - 1), timeStep);
+
+        assertThat(first.alreadyArrived()).isFalse();
+        assertThat(other).isNotNull();
+        assertThat(other.alreadyArrived()).isTrue();
+        assertThat(other.arrival().waitingId()).isEqualTo(waiting.getId());
+    }
+
+    @Test
+    void codeForNotCalledWaiting_isRejected() {
+        LocalDateTime callTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Waiting waiting = createCalledWaiting("010-2000-0004", 4L, callTime);
+        long timeStep = QrTicketService.currentTimeStep();
+        // 재호출되어 호출 시각이 바뀐 뒤의 이전 코드
+        String staleTicket = qrTicketService.issue(
+                waiting.getId(), QrTicketService.statusEpochOf(callTime.minusMinutes(1)), timeStep);
+
+        assertThat(qrCodeService.verifyQrCode(staleTicket, timeStep)).isNull();
+        assertThat(waitingRepository.findById(waiting.getId()).orElseThrow().getStatus()).isEqualTo(WaitingStatus.CALLED);
+    }
+
+    private int markArrived(Long waitingId, LocalDateTime callTime) {
+        return waitingRepository.markArrivedIfCalled(
+                waitingId, callTime, callTime.plusSeconds(1), WaitingStatus.CALLED, WaitingStatus.ARRIVED, LocalDateTime.now());
+    }
+
+    private Waiting createCalledWaiting(String phoneNumber, Long waitingNumber, LocalDateTime callTime) {
+        Event event = eventRepository.findFirstByOrderByIdAsc()
+                .orElseGet(() -> eventRepository.save(Event.builder()
+                        .name("Test Event")
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusDays(1))
+                        .status("ACTIVE")
+                        .build()));
+        User user = userRepository.save(User.builder()
+                .kakaoId(null)
+                .name("test-user-" + phoneNumber)
+                .nickname("nick-" + phoneNumber)
+                .phoneNumber(phoneNumber)
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build());
+        return waitingRepository.save(Waiting.builder()
+                .event(event)
+                .user(user)
+                .businessDate(LocalDate.now())
+                .headCount(2)
+                .status(WaitingStatus.CALLED)
+                .waitingNumber(waitingNumber)
+                .callTime(callTime)
+                .build());
+    }
+}
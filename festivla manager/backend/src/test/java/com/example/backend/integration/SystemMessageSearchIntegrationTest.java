@@ -0,0 +1,107 @@
+package com.example.backend.integration;
+
+import com.example.backend.domain.entity.Event;
+import com.example.backend.domain.entity.User;
+import com.example.backend.domain.enums.MessageType;
+import com.example.backend.domain.enums.UserRole;
+import com.example.backend.domain.enums.UserStatus;
+import com.example.backend.dto.response.ChatSearchResponse;
+import com.example.backend.dto.response.ChatSearchResultResponse;
+import com.example.backend.repository.EventRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.ChatSearchIndex;
+import com.example.backend.service.SystemMessageWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시스템 메시지 일괄 저장 경로도 커밋 후 ChatMessageSentEvent로 검색 색인에 반영되는지 확인
+ * 저장은 작성 스레드의 별도 트랜잭션에서 실행되므로 테스트 데이터는 커밋하고 끝나면 직접 지운다.
+ */
+@SpringBootTest
+class SystemMessageSearchIntegrationTest {
+
+    private static final String CONTENT = "systemindexcheck 테이블 이용 시간이 종료되었습니다.";
+
+    @Autowired
+    private SystemMessageWriter systemMessageWriter;
+
+    @Autowired
+    private ChatSearchIndex chatSearchIndex;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Event event;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        if (event == null) {
+            return;
+        }
+        chatSearchIndex.removeEvent(event.getId());
+        jdbcTemplate.update("DELETE FROM chat_messages WHERE event_id = ?", event.getId());
+        jdbcTemplate.update("DELETE FROM chat_rooms WHERE event_id = ?", event.getId());
+        userIds.forEach(userRepository::deleteById);
+        eventRepository.deleteById(event.getId());
+    }
+
+    @Test
+    void enqueuedSystemMessages_areSearchableAfterBatchWrite() throws InterruptedException {
+        event = eventRepository.save(Event.builder()
+                .name("System Message Search Test Event")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .status("ACTIVE")
+                .build());
+        for (long number = 1; number <= 2; number++) {
+            User user = userRepository.save(User.builder()
+                    .name("system-search-user-" + number)
+                    .nickname("system-search-nick-" + number)
+                    .phoneNumber("010-5000-000" + number)
+                    .role(UserRole.STUDENT)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+            userIds.add(user.getId());
+            systemMessageWriter.enqueue(event.getId(), user.getId(), CONTENT);
+        }
+
+        ChatSearchResponse response = awaitSearch("systemindexcheck", 2L);
+
+        assertThat(response.getTotalCount()).isEqualTo(2L);
+        assertThat(response.getResults())
+                .extracting(ChatSearchResultResponse::getUserId)
+                .containsExactlyInAnyOrderElementsOf(userIds);
+        assertThat(response.getResults())
+                .allSatisfy(result -> {
+                    assertThat(result.getType()).isEqualTo(MessageType.SYSTEM);
+                    assertThat(result.getMessage()).isEqualTo(CONTENT);
+                });
+    }
+
+    private ChatSearchResponse awaitSearch(String query, long expectedCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        ChatSearchResponse response = chatSearchIndex.search(event.getId(), query, 0, 10);
+        while (response.getTotalCount() < expectedCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            response = chatSearchIndex.search(event.getId(), query, 0, 10);
+        }
+        return response;
+    }
+}
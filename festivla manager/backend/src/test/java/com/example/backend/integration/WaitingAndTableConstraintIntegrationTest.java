@@ -105,6 +105,25 @@ class WaitingAndTableConstraintIntegrationTest {
         assertThat(histories.get(0).getEndedAt()).isNotNull();
     }
 
+    @Test
+    void seatAtBestFitTable_afterTableReleased_rejectsReseat() {
+        Event event = getDefaultEvent();
+        User user = createUser("010-1000-0008");
+        Waiting waiting = createWaiting(event, user, 8L, WaitingStatus.ARRIVED, LocalDate.now());
+        createTable(event, 104);
+        createTable(event, 105);
+
+        Table seated = waitingService.seatAtBestFitTable(waiting.getId());
+        assertThat(seated).isNotNull();
+
+        TableStatusUpdateRequest request = new TableStatusUpdateRequest();
+        ReflectionTestUtils.setField(request, "status", TableStatus.CLEANING);
+        tableService.updateStatus(seated.getId(), request);
+
+        assertThatThrownBy(() -> waitingService.seatAtBestFitTable(waiting.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void duplicateActiveAssignmentHistory_sameTable_fails() {
         Event event = getDefaultEvent();
@@ -0,0 +1,67 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호출 페이싱 계산식 (노쇼 보정, 여유 테이블, 적분 보정 한도) 확인
+ */
+class CallPacingCalculatorTest {
+
+    @Test
+    void recommendedCalls_inflatesForNoShows() {
+        // 여유 없이 빈 테이블 4개를 채우려면 노쇼율 0.5에서는 두 배 호출
+        assertThat(CallPacingCalculator.recommendedCalls(4, 10, 1.0, 0.0, 0.0, 0, 100)).isEqualTo(4);
+        assertThat(CallPacingCalculator.recommendedCalls(4, 10, 1.0, 0.0, 0.5, 0, 100)).isEqualTo(8);
+        // 일부만 늘어나도 올림
+        assertThat(CallPacingCalculator.recommendedCalls(4, 10, 1.0, 0.0, 0.2, 0, 100)).isEqualTo(5);
+    }
+
+    @Test
+    void recommendedCalls_keepsIdleSlackAndCountsOutstandingCalls() {
+        // 목표 0.9, 10개 테이블이면 1개는 비워 둠
+        assertThat(CallPacingCalculator.recommendedCalls(3, 10, 0.9, 0.0, 0.0, 0, 100)).isEqualTo(2);
+        assertThat(CallPacingCalculator.recommendedCalls(1, 10, 0.9, 0.0, 0.0, 0, 100)).isEqualTo(0);
+        // 아직 오지 않은 호출은 빼고, 이미 충분하면 음수가 아니라 0
+        assertThat(CallPacingCalculator.recommendedCalls(3, 10, 0.9, 0.0, 0.0, 1, 100)).isEqualTo(1);
+        assertThat(CallPacingCalculator.recommendedCalls(3, 10, 0.9, 0.0, 0.0, 5, 100)).isEqualTo(0);
+    }
+
+    @Test
+    void recommendedCalls_neverExceedsQueueOrRunsWithoutTables() {
+        assertThat(CallPacingCalculator.recommendedCalls(8, 10, 1.0, 0.0, 0.5, 0, 3)).isEqualTo(3);
+        assertThat(CallPacingCalculator.recommendedCalls(8, 10, 1.0, 0.0, 0.5, 0, 0)).isEqualTo(0);
+        assertThat(CallPacingCalculator.recommendedCalls(0, 0, 0.95, 0.2, 0.1, 0, 10)).isEqualTo(0);
+    }
+
+    @Test
+    void recommendedCalls_appliesIntegralPerTable() {
+        // 적분값 0.1 * 20개 테이블 = 2자리 추가
+        assertThat(CallPacingCalculator.recommendedCalls(2, 20, 1.0, 0.1, 0.0, 0, 100)).isEqualTo(4);
+        assertThat(CallPacingCalculator.recommendedCalls(2, 20, 1.0, -0.1, 0.0, 0, 100)).isEqualTo(0);
+    }
+
+    @Test
+    void nextIntegral_isClampedToLimit() {
+        double integral = 0.0;
+        // 점유율 0 / 목표 1.0 이 계속되면 한도까지만 누적
+        for (int i = 0; i < 100; i++) {
+            integral = CallPacingCalculator.nextIntegral(integral, 1.0, 0, 10, 5);
+        }
+        assertThat(integral).isEqualTo(CallPacingCalculator.INTEGRAL_LIMIT);
+
+        for (int i = 0; i < 100; i++) {
+            integral = CallPacingCalculator.nextIntegral(integral, 0.0, 10, 10, 5);
+        }
+        assertThat(integral).isEqualTo(-CallPacingCalculator.INTEGRAL_LIMIT);
+    }
+
+    @Test
+    void nextIntegral_holdsWhenQueueIsEmpty() {
+        assertThat(CallPacingCalculator.nextIntegral(0.1, 1.0, 0, 10, 0)).isEqualTo(0.1);
+        assertThat(CallPacingCalculator.nextIntegral(0.1, 1.0, 0, 0, 5)).isEqualTo(0.1);
+        assertThat(CallPacingCalculator.nextIntegral(0.0, 1.0, 5, 10, 5))
+                .isEqualTo(CallPacingCalculator.INTEGRAL_GAIN * 0.5);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명 입장권 발급/검증 (서명, 시간 창, 변조) 확인
+ */
+class QrTicketServiceTest {
+
+    private final QrTicketService qrTicketService = new QrTicketService("test-ticket-secret");
+
+    @Test
+    void verify_acceptsIssuedTicketWithinWindow() {
+        long timeStep = 1111111109L / 30;
+        String ticket = qrTicketService.issue(42L, 1700000000L, timeStep);
+
+        QrTicketService.TicketClaims claims = qrTicketService.verify(ticket, timeStep + 1);
+
+        assertThat(ticket).startsWith(QrTicketService.TICKET_PREFIX);
+        assertThat(claims).isEqualTo(new QrTicketService.TicketClaims(42L, 1700000000L, timeStep));
+        assertThat(qrTicketService.verify(ticket, timeStep + 2)).isNull();
+    }
+
+    @Test
+    void verify_rejectsTamperedOrForeignTickets() {
+        long timeStep = 1111111109L / 30;
+        String ticket = qrTicketService.issue(42L, 1700000000L, timeStep);
+
+        assertThat(qrTicketService.verify(ticket.replace("T1.42.", "T1.43."), timeStep)).isNull();
+        assertThat(qrTicketService.verify(new QrTicketService("other-secret").issue(42L, 1700000000L, timeStep), timeStep)).isNull();
+        assertThat(qrTicketService.verify("T1.42.1700000000", timeStep)).isNull();
+        assertThat(qrTicketService.verify("42:123456", timeStep)).isNull();
+    }
+
+    @Test
+    void constructor_rejectsBlankSecretOutsideDevProfiles() {
+        assertThatThrownBy(() -> new QrTicketService(" "))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("QR_TICKET_SECRET");
+    }
+
+    @Test
+    void constructor_allowsBlankSecretOnlyForTotpFormat() {
+        MockEnvironment environment = new MockEnvironment();
+
+        assertThat(new QrTicketService("", "totp", environment).isTicket("T1.1.2.3.sig")).isTrue();
+        assertThatThrownBy(() -> new QrTicketService("", "signed", environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
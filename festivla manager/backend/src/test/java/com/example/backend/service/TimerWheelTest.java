@@ -0,0 +1,125 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타이밍 휠 만료 시점 확인 (시계를 직접 움직여 스레드 없이 검증)
+ */
+class TimerWheelTest {
+
+    private static final long TICK_MILLIS = 1_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final List<Long> fired = new ArrayList<>();
+    private final TimerWheel<Long> wheel = new TimerWheel<>(
+            "test-timer", Duration.ofMillis(TICK_MILLIS), fired::addAll, clock::get);
+
+    @Test
+    void neverFiresBeforeDeadline() {
+        long deadline = clock.get() + 2 * TICK_MILLIS + 300;
+        wheel.schedule(1L, deadline);
+
+        // 마감이 든 틱이 시작됐지만 마감 시각 전
+        advanceTo(deadline - 300);
+        advanceTo(deadline - 1);
+        assertThat(fired).isEmpty();
+
+        advanceTo(deadline + TICK_MILLIS - 300);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    void firesOnTickWhenDeadlineIsTickAligned() {
+        long deadline = clock.get() + 3 * TICK_MILLIS;
+        wheel.schedule(1L, deadline);
+
+        advanceTo(deadline - 1);
+        assertThat(fired).isEmpty();
+
+        advanceTo(deadline);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    void rescheduleReplacesEarlierTimer() {
+        long start = clock.get();
+        wheel.schedule(1L, start + 2 * TICK_MILLIS);
+        wheel.schedule(1L, start + 5 * TICK_MILLIS);
+
+        advanceTo(start + 4 * TICK_MILLIS);
+        assertThat(fired).isEmpty();
+
+        advanceTo(start + 5 * TICK_MILLIS);
+        assertThat(fired).containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(0);
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        long start = clock.get();
+        wheel.schedule(1L, start + 2 * TICK_MILLIS);
+        wheel.schedule(2L, start + 2 * TICK_MILLIS);
+        wheel.cancel(1L);
+
+        advanceTo(start + 10 * TICK_MILLIS);
+        assertThat(fired).containsExactly(2L);
+    }
+
+    @Test
+    void scheduleIfAbsentKeepsExistingTimer() {
+        long start = clock.get();
+        wheel.schedule(1L, start + 5 * TICK_MILLIS);
+        wheel.scheduleIfAbsent(1L, toLocalDateTime(start + 2 * TICK_MILLIS));
+        wheel.scheduleIfAbsent(2L, toLocalDateTime(start + 2 * TICK_MILLIS));
+
+        advanceTo(start + 2 * TICK_MILLIS);
+        assertThat(fired).containsExactly(2L);
+
+        advanceTo(start + 5 * TICK_MILLIS);
+        assertThat(fired).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void firesAfterWrapAroundOnExactTick() {
+        long start = clock.get();
+        // 한 바퀴(512칸)보다 먼 마감: 같은 칸을 지나는 이전 바퀴에서는 만료되지 않아야 함
+        long deadline = start + (2 * 512 + 3) * TICK_MILLIS;
+        wheel.schedule(1L, deadline);
+        wheel.schedule(2L, start + 3 * TICK_MILLIS);
+
+        for (long t = start + TICK_MILLIS; t < deadline; t += TICK_MILLIS) {
+            advanceTo(t);
+        }
+        assertThat(fired).containsExactly(2L);
+
+        advanceTo(deadline);
+        assertThat(fired).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        wheel.schedule(1L, clock.get() - 10 * TICK_MILLIS);
+
+        advanceTo(clock.get() + TICK_MILLIS);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private void advanceTo(long millis) {
+        clock.set(millis);
+        wheel.advance();
+    }
+}
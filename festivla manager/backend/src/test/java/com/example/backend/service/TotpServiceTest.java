@@ -0,0 +1,45 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RFC 6238 부록 B 테스트 벡터(SHA1, 하위 6자리)로 코드 생성/검증 결과 확인
+ */
+class TotpServiceTest {
+
+    // ASCII "12345678901234567890"의 Base32
+    private static final String RFC_SECRET = "GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ";
+
+    private final TotpService totpService = new TotpService();
+
+    @Test
+    void generateCode_matchesRfc6238Vectors() {
+        assertThat(totpService.generateCode(RFC_SECRET, 59L / 30)).isEqualTo("287082");
+        assertThat(totpService.generateCode(RFC_SECRET, 1111111109L / 30)).isEqualTo("081804");
+        assertThat(totpService.generateCode(RFC_SECRET, 1234567890L / 30)).isEqualTo("005924");
+        assertThat(totpService.generateCode(RFC_SECRET.toLowerCase(), 2000000000L / 30)).isEqualTo("279037");
+    }
+
+    @Test
+    void verifyCode_acceptsAdjacentStepsOnly() {
+        long timeStep = 1111111109L / 30;
+        String code = totpService.generateCode(RFC_SECRET, timeStep);
+
+        assertThat(totpService.verifyCode(RFC_SECRET, code, timeStep)).isTrue();
+        assertThat(totpService.verifyCode(RFC_SECRET, code, timeStep + 1)).isTrue();
+        assertThat(totpService.verifyCode(RFC_SECRET, code, timeStep - 1)).isTrue();
+        assertThat(totpService.verifyCode(RFC_SECRET, code, timeStep + 2)).isFalse();
+    }
+
+    @Test
+    void verifyCode_rejectsMalformedCodes() {
+        long timeStep = 1111111109L / 30;
+
+        assertThat(totpService.verifyCode(RFC_SECRET, null, timeStep)).isFalse();
+        assertThat(totpService.verifyCode(RFC_SECRET, "08180", timeStep)).isFalse();
+        assertThat(totpService.verifyCode(RFC_SECRET, "0818o4", timeStep)).isFalse();
+        assertThat(totpService.verifyCode(RFC_SECRET, "-81804", timeStep)).isFalse();
+    }
+}
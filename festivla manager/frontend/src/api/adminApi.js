@@ -6,6 +6,11 @@ export const adminApi = {
     return axiosInstance.get('/admin/dashboard/stats');
   },
 
+  // 호출 페이싱 (추천 호출 수) 조회
+  getCallPacing: () => {
+    return axiosInstance.get('/admin/dashboard/pacing');
+  },
+
   // 전체 웨이팅 목록 조회
   getAllWaitings: (status) => {
     if (!status) {
@@ -49,14 +54,26 @@ export const adminApi = {
     return axiosInstance.post('/admin/qr/verify', { qrData });
   },
 
+  // 입장 코드(6자리) 검증, 코드가 겹치면 waitingId로 선택
+  verifyShortCode: (code, waitingId, scannerId) => {
+    return axiosInstance.post('/admin/qr/verify-code', { code, waitingId }, {
+      headers: { 'X-Scanner-Id': scannerId },
+    });
+  },
+
   // 채팅방 목록 조회 (관리자)
   getChatRooms: (status) => {
     return axiosInstance.get('/admin/chat/rooms', { params: { status } });
   },
 
-  // 채팅방 메시지 조회 (관리자)
-  getChatMessages: (chatRoomId) => {
-    return axiosInstance.get(`/admin/chat/rooms/${chatRoomId}/messages`);
+  // 채팅방 메시지 조회 (관리자, 커서: beforeId / afterId, limit)
+  getChatMessages: (chatRoomId, params = {}) => {
+    return axiosInstance.get(`/admin/chat/rooms/${chatRoomId}/messages`, { params });
+  },
+
+  // 채팅 메시지 검색 (q: 검색어, page/size: 페이지)
+  searchChatMessages: (q, params = {}) => {
+    return axiosInstance.get('/admin/chat/search', { params: { q, ...params } });
   },
 
   // 메시지 전송 (관리자)
@@ -11,9 +11,9 @@ export const chatApi = {
     return axiosInstance.get('/chat/rooms/me');
   },
 
-  // 채팅 메시지 조회
-  getMessages: (chatRoomId) => {
-    return axiosInstance.get(`/chat/rooms/${chatRoomId}/messages`);
+  // 채팅 메시지 조회 (커서: beforeId / afterId, limit)
+  getMessages: (chatRoomId, params = {}) => {
+    return axiosInstance.get(`/chat/rooms/${chatRoomId}/messages`, { params });
   },
 
   // 메시지 전송
@@ -0,0 +1,4 @@
+// WebSocket 기본 주소 (예: ws://localhost:8080/ws)
+export const WS_BASE_URL = (
+  import.meta.env.VITE_WS_BASE_URL || 'ws://localhost:8080/ws'
+).replace(/\/+$/, '');
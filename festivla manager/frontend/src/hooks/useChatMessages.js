@@ -0,0 +1,87 @@
+import { useCallback, useEffect, useRef, useState } from 'react';
+
+/**
+ * 채팅 메시지 증분 조회 훅
+ * 최초에는 최신 메시지 한 페이지만 받고, 이후에는 마지막 메시지 ID 이후(afterId)만 받아 이어 붙인다.
+ * 새 메시지는 WebSocket 푸시(receive)로 받고, 재연결 시 refresh()로 놓친 메시지만 다시 조회한다.
+ * 이전 기록은 loadOlder()로 beforeId 커서를 사용해 조회한다.
+ *
+ * @param {(chatRoomId, params) => Promise} fetchMessages - { beforeId, afterId, limit }를 받는 API 함수
+ * @param {{ pollInterval?: number }} options - pollInterval을 주면 WebSocket 없이 주기적으로 증분 조회
+ */
+export const useChatMessages = (fetchMessages, chatRoomId, { pollInterval = 0 } = {}) => {
+  const [messages, setMessages] = useState([]);
+  const [hasOlder, setHasOlder] = useState(true);
+  const messagesRef = useRef([]);
+  const roomRef = useRef(chatRoomId);
+
+  const applyMessages = useCallback((next) => {
+    messagesRef.current = next;
+    setMessages(next);
+  }, []);
+
+  const appendNewer = useCallback(async () => {
+    if (!chatRoomId) return;
+    const current = messagesRef.current;
+    const lastId = current.length > 0 ? current[current.length - 1].messageId : undefined;
+    const response = await fetchMessages(chatRoomId, { afterId: lastId });
+    const received = response?.data?.data || [];
+    // 응답 도착 전에 다른 채팅방으로 바뀌었으면 버림
+    if (roomRef.current !== chatRoomId || received.length === 0) return;
+
+    const knownIds = new Set(messagesRef.current.map((msg) => msg.messageId));
+    const fresh = received.filter((msg) => !knownIds.has(msg.messageId));
+    if (fresh.length > 0) {
+      applyMessages([...messagesRef.current, ...fresh]);
+    }
+  }, [chatRoomId, fetchMessages, applyMessages]);
+
+  // WebSocket으로 받은 메시지 반영 (현재 채팅방 메시지만, 중복 제거)
+  const receive = useCallback((message) => {
+    if (!message || String(message.chatRoomId) !== String(roomRef.current)) return;
+    if (messagesRef.current.some((msg) => msg.messageId === message.messageId)) return;
+    applyMessages([...messagesRef.current, message].sort((a, b) => a.messageId - b.messageId));
+  }, [applyMessages]);
+
+  // 상대방 읽음 확인 반영 (senderRole이 보낸 메시지 중 lastReadMessageId 이하를 읽음으로 표시)
+  const markReadUpTo = useCallback((senderRole, lastReadMessageId) => {
+    let changed = false;
+    const next = messagesRef.current.map((msg) => {
+      if (msg.senderRole === senderRole && !msg.isRead && msg.messageId <= lastReadMessageId) {
+        changed = true;
+        return { ...msg, isRead: true };
+      }
+      return msg;
+    });
+    if (changed) applyMessages(next);
+  }, [applyMessages]);
+
+  const loadOlder = useCallback(async () => {
+    const current = messagesRef.current;
+    if (!chatRoomId || current.length === 0) return;
+    const response = await fetchMessages(chatRoomId, { beforeId: current[0].messageId });
+    const older = response?.data?.data || [];
+    if (roomRef.current !== chatRoomId) return;
+    setHasOlder(older.length > 0);
+    if (older.length > 0) {
+      applyMessages([...older, ...messagesRef.current]);
+    }
+  }, [chatRoomId, fetchMessages, applyMessages]);
+
+  useEffect(() => {
+    roomRef.current = chatRoomId;
+    applyMessages([]);
+    setHasOlder(true);
+    if (!chatRoomId) return undefined;
+
+    appendNewer().catch((error) => console.error('메시지 조회 실패:', error));
+    if (!pollInterval) return undefined;
+
+    const timer = setInterval(() => {
+      appendNewer().catch((error) => console.error('메시지 조회 실패:', error));
+    }, pollInterval);
+    return () => clearInterval(timer);
+  }, [chatRoomId, pollInterval, appendNewer, applyMessages]);
+
+  return { messages, hasOlder, loadOlder, refresh: appendNewer, receive, markReadUpTo };
+};
@@ -0,0 +1,70 @@
+import { useCallback, useEffect, useRef, useState } from 'react';
+import { WS_BASE_URL } from '../api/wsConfig';
+import { useChatMessages } from './useChatMessages';
+import { useSocket } from './useSocket';
+
+const TYPING_SEND_INTERVAL_MS = 2000;
+const TYPING_DISPLAY_MS = 3000;
+
+/**
+ * 채팅방 실시간 훅 (/ws/chat)
+ * - CHAT_MESSAGE: 현재 방 메시지를 목록에 반영하고, 상대방 메시지면 바로 읽음(READ) 전송
+ * - CHAT_TYPING: 상대방 입력 중 표시
+ * - CHAT_READ: 상대방 읽음 확인을 내 메시지에 반영
+ * 연결/재연결 시에는 마지막 메시지 이후만 다시 조회해 끊긴 동안의 메시지를 채운다.
+ *
+ * @param {{ fetchMessages, chatRoomId, role: 'ADMIN' | 'STUDENT', userId?, onRoomActivity? }} options
+ */
+export const useChatRoomSocket = ({ fetchMessages, chatRoomId, role, userId, onRoomActivity }) => {
+  const counterpart = role === 'ADMIN' ? 'STUDENT' : 'ADMIN';
+  const chat = useChatMessages(fetchMessages, chatRoomId);
+  const [counterpartTyping, setCounterpartTyping] = useState(false);
+  const typingTimerRef = useRef(null);
+  const lastTypingSentRef = useRef(0);
+
+  const isCurrentRoom = (id) => chatRoomId != null && String(id) === String(chatRoomId);
+
+  const { sendMessage: sendEvent, isConnected } = useSocket(`${WS_BASE_URL}/chat`, {
+    userId: role === 'STUDENT' ? userId : undefined,
+    query: role === 'ADMIN' ? 'role=ADMIN' : undefined,
+    onOpen: () => {
+      chat.refresh().catch((error) => console.error('메시지 조회 실패:', error));
+    },
+    onMessage: (event) => {
+      const data = event.data || {};
+      if (event.type === 'CHAT_MESSAGE') {
+        onRoomActivity?.(data);
+        if (!isCurrentRoom(data.chatRoomId)) return;
+        chat.receive(data);
+        if (data.senderRole === counterpart) {
+          setCounterpartTyping(false);
+          sendEvent({ type: 'READ', chatRoomId: data.chatRoomId, lastReadMessageId: data.messageId });
+        }
+      } else if (event.type === 'CHAT_TYPING') {
+        if (!isCurrentRoom(data.chatRoomId) || data.senderRole !== counterpart) return;
+        setCounterpartTyping(true);
+        clearTimeout(typingTimerRef.current);
+        typingTimerRef.current = setTimeout(() => setCounterpartTyping(false), TYPING_DISPLAY_MS);
+      } else if (event.type === 'CHAT_READ') {
+        if (!isCurrentRoom(data.chatRoomId) || data.reader !== counterpart) return;
+        chat.markReadUpTo(role, data.lastReadMessageId);
+      }
+    },
+  });
+
+  // 입력 중 이벤트는 일정 간격으로만 전송
+  const notifyTyping = useCallback(() => {
+    if (!chatRoomId || !isConnected) return;
+    const now = Date.now();
+    if (now - lastTypingSentRef.current < TYPING_SEND_INTERVAL_MS) return;
+    lastTypingSentRef.current = now;
+    sendEvent({ type: 'TYPING', chatRoomId: Number(chatRoomId) });
+  }, [chatRoomId, isConnected, sendEvent]);
+
+  useEffect(() => {
+    setCounterpartTyping(false);
+    return () => clearTimeout(typingTimerRef.current);
+  }, [chatRoomId]);
+
+  return { ...chat, counterpartTyping, notifyTyping, isConnected };
+};
@@ -2,16 +2,20 @@ import { useEffect, useRef, useState, useCallback } from 'react';
 
 /**
  * WebSocket 연결 훅 (표준 WebSocket 사용)
+ * query를 주면 userId 대신 그대로 쿼리 문자열로 사용 (예: 'role=ADMIN')
  */
 export const useSocket = (url, options = {}) => {
-  const { userId, onMessage, onOpen, onClose, onError, reconnect = true, reconnectInterval = 3000 } = options;
+  const { userId, query, onMessage, onOpen, onClose, onError, reconnect = true, reconnectInterval = 3000 } = options;
   const socketRef = useRef(null);
+  // 콜백이 렌더링마다 바뀌어도 재연결하지 않도록 최신 콜백을 ref로 보관
+  const handlersRef = useRef({});
+  handlersRef.current = { onMessage, onOpen, onClose, onError };
   const reconnectTimeoutRef = useRef(null);
   const [isConnected, setIsConnected] = useState(false);
   const [connectionError, setConnectionError] = useState(null);
 
   const connect = useCallback(() => {
-    if (!userId) {
+    if (!userId && !query) {
       console.warn('userId가 없어 WebSocket 연결을 건너뜁니다.');
       return;
     }
@@ -26,7 +30,7 @@ export const useSocket = (url, options = {}) => {
         wsUrl = url.replace('https://', 'wss://');
       }
       
-      wsUrl = `${wsUrl}?userId=${userId}`;
+      wsUrl = `${wsUrl}?${query || `userId=${userId}`}`;
       
       socketRef.current = new WebSocket(wsUrl);
 
@@ -34,17 +38,13 @@ export const useSocket = (url, options = {}) => {
         console.log('WebSocket 연결됨:', wsUrl);
         setIsConnected(true);
         setConnectionError(null);
-        if (onOpen) {
-          onOpen();
-        }
+        handlersRef.current.onOpen?.();
       };
 
       socketRef.current.onmessage = (event) => {
         try {
           const data = JSON.parse(event.data);
-          if (onMessage) {
-            onMessage(data);
-          }
+          handlersRef.current.onMessage?.(data);
         } catch (error) {
           console.error('WebSocket 메시지 파싱 오류:', error);
         }
@@ -54,18 +54,14 @@ export const useSocket = (url, options = {}) => {
         console.error('WebSocket 에러:', error);
         setConnectionError(error);
         setIsConnected(false);
-        if (onError) {
-          onError(error);
-        }
+        handlersRef.current.onError?.(error);
       };
 
       socketRef.current.onclose = (event) => {
         console.log('WebSocket 연결 종료:', event.code, event.reason);
         setIsConnected(false);
 
-        if (onClose) {
-          onClose(event);
-        }
+        handlersRef.current.onClose?.(event);
 
         // 재연결 로직
         if (reconnect && event.code !== 1000) {
@@ -81,7 +77,7 @@ export const useSocket = (url, options = {}) => {
       setConnectionError(error);
       setIsConnected(false);
     }
-  }, [url, userId, onMessage, onOpen, onClose, onError, reconnect, reconnectInterval]);
+  }, [url, userId, query, reconnect, reconnectInterval]);
 
   useEffect(() => {
     connect();
@@ -92,7 +88,8 @@ export const useSocket = (url, options = {}) => {
         clearTimeout(reconnectTimeoutRef.current);
       }
       if (socketRef.current) {
-        socketRef.current.close();
+        // 정상 종료 코드로 닫아 재연결 로직이 동작하지 않도록 함
+        socketRef.current.close(1000);
         socketRef.current = null;
       }
       setIsConnected(false);
@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import AdminLayout from '../../components/layout/AdminLayout';
 import { adminApi } from '../../api/adminApi';
+import { useChatRoomSocket } from '../../hooks/useChatRoomSocket';
 
 const AdminChatCenter = () => {
   const [selectedChatId, setSelectedChatId] = useState(null);
@@ -14,19 +15,22 @@ const AdminChatCenter = () => {
   const { data: chatRoomsData } = useQuery({
     queryKey: ['adminChatRooms', filter],
     queryFn: () => adminApi.getChatRooms(filter === 'all' ? null : filter.toUpperCase()),
-    refetchInterval: 3000, // 3초마다 갱신
   });
 
-  // 선택된 채팅방의 메시지 조회
-  const { data: messagesData } = useQuery({
-    queryKey: ['adminChatMessages', selectedChatId],
-    queryFn: () => adminApi.getChatMessages(selectedChatId),
-    enabled: !!selectedChatId,
-    refetchInterval: 2000, // 2초마다 갱신
+  // 선택된 채팅방의 메시지 조회 (최초 1페이지 + WebSocket 푸시), 메시지가 오면 채팅방 목록도 갱신
+  const {
+    messages: currentMessages,
+    receive: receiveMessage,
+    counterpartTyping,
+    notifyTyping,
+  } = useChatRoomSocket({
+    fetchMessages: adminApi.getChatMessages,
+    chatRoomId: selectedChatId,
+    role: 'ADMIN',
+    onRoomActivity: () => queryClient.invalidateQueries(['adminChatRooms']),
   });
 
   const chatRooms = chatRoomsData?.data?.data || [];
-  const currentMessages = messagesData?.data?.data || [];
 
   // 첫 번째 채팅방 자동 선택
   useEffect(() => {
@@ -40,9 +44,9 @@ const AdminChatCenter = () => {
   // 메시지 전송 (관리자)
   const sendMutation = useMutation({
     mutationFn: (messageText) => adminApi.sendChatMessage(selectedChatId, messageText),
-    onSuccess: () => {
+    onSuccess: (response) => {
       setMessage('');
-      queryClient.invalidateQueries(['adminChatMessages', selectedChatId]);
+      receiveMessage(response?.data?.data);
       queryClient.invalidateQueries(['adminChatRooms']);
     },
   });
@@ -76,13 +80,25 @@ const AdminChatCenter = () => {
     }
   };
 
+  // 메시지 내용 검색 (서버 색인, 2자 이상)
+  const trimmedQuery = searchQuery.trim();
+  const { data: searchData } = useQuery({
+    queryKey: ['adminChatSearch', trimmedQuery],
+    queryFn: () => adminApi.searchChatMessages(trimmedQuery, { size: 100 }),
+    enabled: trimmedQuery.length >= 2,
+    staleTime: 5000,
+  });
+  const searchMatchedRoomIds = new Set(
+    (searchData?.data?.data?.results || []).map((result) => result.chatRoomId)
+  );
+
   // 필터링된 채팅방 목록
   const filteredChatRooms = chatRooms.filter(room => {
     if (searchQuery) {
       const query = searchQuery.toLowerCase();
       const nickname = (room.userNickname || '').toLowerCase();
       const lastMessage = (room.lastMessage || '').toLowerCase();
-      if (!nickname.includes(query) && !lastMessage.includes(query)) {
+      if (!nickname.includes(query) && !lastMessage.includes(query) && !searchMatchedRoomIds.has(room.chatRoomId)) {
         return false;
       }
     }
@@ -384,6 +400,10 @@ const AdminChatCenter = () => {
                     </div>
                   );
                 })}
+
+                {counterpartTyping && (
+                  <div className="text-xs text-slate-400">학생이 입력 중입니다...</div>
+                )}
               </div>
 
               {/* 빠른 액션 버튼 */}
@@ -428,7 +448,10 @@ const AdminChatCenter = () => {
                   </button>
                   <textarea
                     value={message}
-                    onChange={(e) => setMessage(e.target.value)}
+                    onChange={(e) => {
+                      setMessage(e.target.value);
+                      notifyTyping();
+                    }}
                     placeholder="Type your reply... (Shift + Enter for new line)"
                     rows={3}
                     className="flex-1 px-4 py-3 bg-slate-50 border border-slate-200 rounded-2xl focus:outline-none focus:ring-2 focus:ring-teal-500 focus:border-transparent text-slate-900 placeholder:text-slate-400 resize-none"
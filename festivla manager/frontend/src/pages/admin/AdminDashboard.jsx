@@ -18,7 +18,15 @@ const AdminDashboard = () => {
     refetchInterval: 3000, // 3초마다 갱신
   });
 
+  // 호출 페이싱 조회 (서버가 10초마다 다시 계산)
+  const { data: pacingData } = useQuery({
+    queryKey: ['callPacing'],
+    queryFn: () => adminApi.getCallPacing(),
+    refetchInterval: 10000,
+  });
+
   const stats = statsData?.data?.data;
+  const pacing = pacingData?.data?.data;
   const recentWaitings = recentWaitingsData?.data?.data || [];
 
   // 통계 데이터 계산
@@ -222,6 +230,27 @@ const AdminDashboard = () => {
           </div>
         </div>
 
+        {/* 호출 페이싱 */}
+        {pacing && pacing.mode !== 'off' && (
+          <div className="bg-white rounded-xl sm:rounded-2xl shadow-sm p-4 sm:p-5 flex flex-col sm:flex-row sm:items-center sm:justify-between gap-3">
+            <div>
+              <div className="text-xs sm:text-sm text-slate-600 mb-1">
+                {pacing.mode === 'auto' ? '자동 호출 중' : '추천 호출'}
+              </div>
+              <div className="text-2xl sm:text-3xl font-bold text-slate-900">
+                {pacing.recommendedCalls}
+                <span className="text-base sm:text-lg ml-1">팀</span>
+              </div>
+            </div>
+            <div className="grid grid-cols-2 sm:grid-cols-4 gap-3 text-xs sm:text-sm text-slate-500">
+              <div>곧 빌 테이블 <span className="font-semibold text-slate-900">{pacing.expectedFreeTables}</span></div>
+              <div>도착 대기 <span className="font-semibold text-slate-900">{pacing.outstandingCalls}</span></div>
+              <div>평균 도착 <span className="font-semibold text-slate-900">{Math.round(pacing.avgArrivalSeconds / 60)}분</span></div>
+              <div>노쇼율 <span className="font-semibold text-slate-900">{Math.round(pacing.noShowRate * 100)}%</span></div>
+            </div>
+          </div>
+        )}
+
         <div className="grid grid-cols-1 lg:grid-cols-3 gap-4 sm:gap-5 lg:gap-6">
           {/* 좌측: 퀵 메뉴 */}
           <div className="lg:col-span-2">
@@ -1,9 +1,33 @@
-import { useState, useEffect } from 'react';
+import { useState, useRef, useCallback } from 'react';
 import { useMutation, useQuery } from '@tanstack/react-query';
 import { useNavigate } from 'react-router-dom';
 import { adminApi } from '../../api/adminApi';
+import { WS_BASE_URL } from '../../api/wsConfig';
+import { useSocket } from '../../hooks/useSocket';
 import QrScannerLib from 'react-qr-scanner';
 
+const DEVICE_ID_KEY = 'scannerDeviceId';
+const OFFLINE_QUEUE_KEY = 'scannerOfflineQueue';
+const MAX_RECENT_ARRIVALS = 5;
+
+// 기기별 스캐너 ID (브라우저에 저장해 재접속해도 유지)
+const getDeviceId = () => {
+  let deviceId = localStorage.getItem(DEVICE_ID_KEY);
+  if (!deviceId) {
+    deviceId = crypto.randomUUID();
+    localStorage.setItem(DEVICE_ID_KEY, deviceId);
+  }
+  return deviceId;
+};
+
+const readOfflineQueue = () => {
+  try {
+    return JSON.parse(localStorage.getItem(OFFLINE_QUEUE_KEY)) || [];
+  } catch {
+    return [];
+  }
+};
+
 const QrScanner = () => {
   const navigate = useNavigate();
   const [isModalOpen, setIsModalOpen] = useState(false);
@@ -11,6 +35,13 @@ const QrScanner = () => {
   const [tableFilter, setTableFilter] = useState('available'); // 'available' or 'inUse'
   const [scannedData, setScannedData] = useState(null);
   const [isScanning, setIsScanning] = useState(true);
+  const [recentArrivals, setRecentArrivals] = useState([]);
+  const [autoSeat, setAutoSeat] = useState(false); // 스캔 시 빈 테이블 자동 배정
+  const [manualCode, setManualCode] = useState('');
+  const [codeCandidates, setCodeCandidates] = useState([]);
+  const [offlineCount, setOfflineCount] = useState(() => readOfflineQueue().length);
+  const [deviceId] = useState(getDeviceId);
+  const requestSeqRef = useRef(0);
 
   // 테이블 목록 조회
   const { data: tablesData, refetch: refetchTables } = useQuery({
@@ -26,32 +57,90 @@ const QrScanner = () => {
     return true;
   });
 
-  // QR 검증
-  const verifyMutation = useMutation({
-    mutationFn: (qrData) => adminApi.verifyQrCode(qrData),
+  // 검증 결과 처리 (현재 스캔)
+  const handleVerifyResult = useCallback((data) => {
+    if (data.isValid && data.tableId) {
+      // 좌석 자동 배정 완료: 안내 후 바로 다음 스캔
+      alert(data.message);
+      refetchTables();
+      setTimeout(() => setIsScanning(true), 1000);
+    } else if (data.isValid) {
+      setScannedData({
+        ticketId: data.waitingId,
+        user: { nickname: data.userNickname, studentId: data.userId },
+        headCount: data.headCount,
+        type: 'VIP Access', // 실제로는 서버에서 받아와야 함
+      });
+      setIsModalOpen(true);
+      setIsScanning(false);
+    } else {
+      alert(data.message || '유효하지 않은 QR 코드입니다.');
+      // 스캔 재개 (잠시 딜레이 후)
+      setTimeout(() => setIsScanning(true), 2000);
+    }
+  }, [refetchTables]);
+
+  // 스캐너 채널: 스캔을 연속으로 보내고 결과를 requestId로 받음, 다른 기기의 입장도 실시간 수신
+  const { sendMessage, isConnected } = useSocket(`${WS_BASE_URL}/scanner`, {
+    query: `deviceId=${deviceId}`,
+    onOpen: () => {
+      // 오프라인 중 모아둔 스캔 일괄 업로드
+      const queued = readOfflineQueue();
+      if (queued.length > 0) {
+        sendMessage({ type: 'SCAN_BATCH', scans: queued });
+        localStorage.removeItem(OFFLINE_QUEUE_KEY);
+        setOfflineCount(0);
+      }
+    },
+    onMessage: (message) => {
+      if (message.type === 'SCAN_RESULT') {
+        const { offline, result } = message.data;
+        if (!offline) {
+          handleVerifyResult(result);
+        } else if (!result.isValid) {
+          console.warn('오프라인 스캔 검증 실패:', message.data.requestId, result.message);
+        }
+      } else if (message.type === 'QR_ARRIVED') {
+        setRecentArrivals((prev) => [message.data, ...prev].slice(0, MAX_RECENT_ARRIVALS));
+      }
+    },
+  });
+
+  const nextRequestId = () => `${deviceId}-${Date.now()}-${++requestSeqRef.current}`;
+
+  // 연결이 끊긴 동안의 스캔은 스캔 시각과 함께 저장해 두었다가 재연결 시 업로드
+  const queueOfflineScan = (qrData) => {
+    const queued = [...readOfflineQueue(), { requestId: nextRequestId(), qrData, seat: autoSeat, scannedAt: Date.now() }];
+    localStorage.setItem(OFFLINE_QUEUE_KEY, JSON.stringify(queued));
+    setOfflineCount(queued.length);
+    setTimeout(() => setIsScanning(true), 1000);
+  };
+
+  // 입장 코드 직접 입력 (QR 스캔이 안 될 때)
+  const shortCodeMutation = useMutation({
+    mutationFn: ({ code, waitingId }) => adminApi.verifyShortCode(code, waitingId, deviceId),
     onSuccess: (response) => {
       const data = response.data.data;
-      if (data.isValid) {
-        setScannedData({
-          ticketId: data.waitingId,
-          user: { nickname: data.userNickname, studentId: data.userId },
-          headCount: data.headCount,
-          type: 'VIP Access', // 실제로는 서버에서 받아와야 함
-        });
-        setIsModalOpen(true);
-        setIsScanning(false);
-      } else {
-        alert(data.message || '유효하지 않은 QR 코드입니다.');
-        // 스캔 재개 (잠시 딜레이 후)
-        setTimeout(() => setIsScanning(true), 2000);
+      if (data.candidates?.length) {
+        setCodeCandidates(data.candidates);
+        return;
       }
+      setCodeCandidates([]);
+      setManualCode('');
+      handleVerifyResult(data);
+    },
+    onError: (error) => {
+      alert(error.response?.data?.message || '입장 코드 확인 중 오류가 발생했습니다.');
     },
-    onError: () => {
-      alert('QR 코드 검증 중 오류가 발생했습니다.');
-      setTimeout(() => setIsScanning(true), 2000);
-    }
   });
 
+  const handleSubmitCode = (e) => {
+    e.preventDefault();
+    if (/^\d{6}$/.test(manualCode)) {
+      shortCodeMutation.mutate({ code: manualCode });
+    }
+  };
+
   // 좌석 배정
   const assignMutation = useMutation({
     mutationFn: ({ waitingId, tableId }) => adminApi.assignTable(waitingId, tableId),
@@ -73,7 +162,11 @@ const QrScanner = () => {
       setIsScanning(false); // 중복 스캔 방지
       // data가 객체일 수도 있고 문자열일 수도 있음 (라이브러리 버전에 따라 다름)
       const qrText = data.text || data;
-      verifyMutation.mutate(qrText);
+      if (isConnected) {
+        sendMessage({ type: 'SCAN', requestId: nextRequestId(), qrData: qrText, seat: autoSeat });
+      } else {
+        queueOfflineScan(qrText);
+      }
     }
   };
 
@@ -118,6 +211,18 @@ const QrScanner = () => {
             </div>
           </div>
           <div className="flex items-center gap-3">
+            <label className="flex items-center gap-2 text-xs text-white cursor-pointer">
+              <input
+                type="checkbox"
+                checked={autoSeat}
+                onChange={(e) => setAutoSeat(e.target.checked)}
+                className="w-4 h-4 text-rose-500"
+              />
+              자동 좌석 배정
+            </label>
+            {!isConnected && (
+              <span className="text-xs text-amber-300">오프라인 · 대기 {offlineCount}건</span>
+            )}
             <div className="flex items-center gap-2">
               <div className={`w-2 h-2 rounded-full ${isScanning ? 'bg-green-500 animate-pulse' : 'bg-red-500'}`}></div>
               <span className="text-sm text-white">{isScanning ? 'Camera Active' : 'Processing...'}</span>
@@ -126,6 +231,18 @@ const QrScanner = () => {
         </div>
       </div>
 
+      {/* 최근 입장 (모든 스캐너) */}
+      {recentArrivals.length > 0 && (
+        <div className="absolute top-20 right-4 z-20 bg-black/70 rounded-lg p-3 text-xs text-white space-y-1">
+          <div className="font-semibold text-slate-300 mb-1">최근 입장</div>
+          {recentArrivals.map((arrival) => (
+            <div key={arrival.waitingId}>
+              #{arrival.waitingId} {arrival.userNickname} · {arrival.headCount}명
+            </div>
+          ))}
+        </div>
+      )}
+
       {/* 스캔 대기 화면 */}
       <div className="flex-1 relative flex items-center justify-center bg-black overflow-hidden">
         {/* 카메라 뷰 */}
@@ -167,6 +284,45 @@ const QrScanner = () => {
         </div>
       </div>
 
+      {/* 입장 코드 직접 입력 */}
+      <div className="absolute bottom-0 left-0 right-0 z-20 bg-black/80 backdrop-blur-sm p-4">
+        <form onSubmit={handleSubmitCode} className="flex items-center gap-2">
+          <input
+            type="text"
+            inputMode="numeric"
+            maxLength={6}
+            value={manualCode}
+            onChange={(e) => {
+              setManualCode(e.target.value.replace(/\D/g, ''));
+              setCodeCandidates([]);
+            }}
+            placeholder="6자리 입장 코드"
+            className="flex-1 px-3 py-2 rounded-lg bg-white/10 text-white placeholder-slate-400 font-mono tracking-widest"
+          />
+          <button
+            type="submit"
+            disabled={manualCode.length !== 6 || shortCodeMutation.isPending}
+            className="px-4 py-2 bg-rose-500 text-white rounded-lg text-sm font-medium disabled:opacity-50"
+          >
+            확인
+          </button>
+        </form>
+        {codeCandidates.length > 0 && (
+          <div className="mt-3 space-y-2">
+            <div className="text-xs text-slate-300">같은 코드의 웨이팅이 여러 개입니다. 입장할 웨이팅을 선택하세요.</div>
+            {codeCandidates.map((candidate) => (
+              <button
+                key={candidate.waitingId}
+                onClick={() => shortCodeMutation.mutate({ code: manualCode, waitingId: candidate.waitingId })}
+                className="w-full text-left px-3 py-2 rounded-lg bg-white/10 text-white text-sm hover:bg-white/20"
+              >
+                #{candidate.waitingNumber} {candidate.userNickname} · {candidate.headCount}명
+              </button>
+            ))}
+          </div>
+        )}
+      </div>
+
       {/* 좌석 배정 모달 */}
       {isModalOpen && scannedData && (
         <div className="fixed inset-0 z-50 flex items-center justify-center bg-black bg-opacity-60 backdrop-blur-md">
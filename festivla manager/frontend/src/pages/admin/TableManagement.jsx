@@ -4,6 +4,13 @@ import AdminLayout from '../../components/layout/AdminLayout';
 import Modal from '../../components/common/Modal';
 import { adminApi } from '../../api/adminApi';
 
+// 현재 상태가 시작된 뒤 경과 시간 (목록을 5초마다 다시 받으므로 그때 함께 갱신)
+const formatElapsed = (statusChangedAt) => {
+  if (!statusChangedAt) return null;
+  const minutes = Math.max(0, Math.floor((Date.now() - new Date(statusChangedAt).getTime()) / 60000));
+  return minutes < 60 ? `${minutes}분` : `${Math.floor(minutes / 60)}시간 ${minutes % 60}분`;
+};
+
 const TableManagement = () => {
   const [selectedFilter, setSelectedFilter] = useState('all');
   const [selectedTable, setSelectedTable] = useState(null);
@@ -133,6 +140,9 @@ const TableManagement = () => {
       >
         <div className="flex items-center justify-between mb-2">
           <span className="font-bold text-slate-900">T-{String(table.tableNumber).padStart(2, '0')}</span>
+          {table.status !== 'EMPTY' && formatElapsed(table.statusChangedAt) && (
+            <span className="text-xs text-slate-400">{formatElapsed(table.statusChangedAt)}</span>
+          )}
         </div>
 
         {table.status === 'EMPTY' && (
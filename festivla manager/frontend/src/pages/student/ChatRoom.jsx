@@ -1,7 +1,8 @@
 import { useState, useEffect, useRef } from 'react';
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useMutation } from '@tanstack/react-query';
 import { useParams } from 'react-router-dom';
 import { chatApi } from '../../api/chatApi';
+import { useChatRoomSocket } from '../../hooks/useChatRoomSocket';
 import useUserStore from '../../store/userStore';
 
 const ChatRoom = () => {
@@ -9,27 +10,29 @@ const ChatRoom = () => {
   const { user } = useUserStore();
   const [message, setMessage] = useState('');
   const messagesEndRef = useRef(null);
-  const queryClient = useQueryClient();
-
-  // 메시지 조회
-  const { data: messagesData } = useQuery({
-    queryKey: ['chatMessages', chatRoomId],
-    queryFn: () => chatApi.getMessages(chatRoomId),
-    enabled: !!chatRoomId,
-    refetchInterval: 2000, // 2초마다 갱신
+
+  // 메시지 조회 (최초 1페이지 + WebSocket 푸시)
+  const { messages, receive, counterpartTyping, notifyTyping } = useChatRoomSocket({
+    fetchMessages: chatApi.getMessages,
+    chatRoomId,
+    role: 'STUDENT',
+    userId: user?.id,
   });
 
   // 메시지 전송
   const sendMutation = useMutation({
     mutationFn: (message) => chatApi.sendMessage(chatRoomId, message),
-    onSuccess: () => {
+    onSuccess: (response) => {
       setMessage('');
-      queryClient.invalidateQueries(['chatMessages', chatRoomId]);
+      receive(response?.data?.data);
+    },
+    onError: (error) => {
+      if (error.response?.status === 429) {
+        alert(error.response.data?.message || '메시지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요.');
+      }
     },
   });
 
-  const messages = messagesData?.data?.data || [];
-
   // 스크롤을 맨 아래로
   useEffect(() => {
     messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
@@ -118,7 +121,7 @@ const ChatRoom = () => {
 
           if (isSystem) {
             return (
-              <div key={msg.id} className="flex justify-center">
+              <div key={msg.messageId} className="flex justify-center">
                 <div className="text-xs text-slate-500">
                   {msg.message}
                 </div>
@@ -128,7 +131,7 @@ const ChatRoom = () => {
 
           return (
             <div
-              key={msg.id}
+              key={msg.messageId}
               className={`flex ${isMine ? 'justify-end' : 'justify-start'} ${isMine ? 'items-end' : 'items-start'} gap-2`}
             >
               {/* 상담원 아바타 */}
@@ -179,6 +182,10 @@ const ChatRoom = () => {
           </div>
         </div>
 
+        {counterpartTyping && (
+          <div className="text-xs text-slate-400">상담원이 입력 중입니다...</div>
+        )}
+
         <div ref={messagesEndRef} />
       </div>
 
@@ -209,7 +216,10 @@ const ChatRoom = () => {
           <input
             type="text"
             value={message}
-            onChange={(e) => setMessage(e.target.value)}
+            onChange={(e) => {
+              setMessage(e.target.value);
+              notifyTyping();
+            }}
             placeholder="Ask a question..."
             className="flex-1 px-4 py-3 bg-slate-50 rounded-3xl border-0 focus:outline-none focus:ring-2 focus:ring-rose-500 text-slate-900 placeholder:text-slate-400"
           />
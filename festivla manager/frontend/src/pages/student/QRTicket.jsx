@@ -63,6 +63,7 @@ const QRTicket = () => {
   }
 
   const currentQrCode = qrData?.data?.data?.qrData;
+  const shortCode = qrData?.data?.data?.shortCode;
   const progress = ((30 - timeRemaining) / 30) * 100;
 
   return (
@@ -98,6 +99,13 @@ const QRTicket = () => {
           </div>
         </div>
 
+        {shortCode && (
+          <div className="text-center mb-6">
+            <div className="text-xs text-slate-500 mb-1">스캔이 안 되면 스태프에게 코드를 알려주세요</div>
+            <div className="text-2xl font-mono font-bold tracking-widest text-slate-900">{shortCode}</div>
+          </div>
+        )}
+
         <div className="mb-4">
           <div className="text-sm font-semibold text-slate-900 mb-2">남은 시간</div>
           <div className="w-full h-2 bg-slate-100 rounded-full overflow-hidden">
@@ -6,10 +6,7 @@ import { chatApi } from '../../api/chatApi';
 import Button from '../../components/common/Button';
 import useUserStore from '../../store/userStore';
 import { useSocket } from '../../hooks/useSocket';
-
-const WS_BASE_URL = (
-  import.meta.env.VITE_WS_BASE_URL || 'ws://localhost:8080/ws'
-).replace(/\/+$/, '');
+import { WS_BASE_URL } from '../../api/wsConfig';
 
 const StatusDashboard = () => {
   const navigate = useNavigate();